@@ -2,8 +2,10 @@ package io.github.asthenia0412.multipleformatreportexport;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class MultipleFormatReportExportApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,23 @@
+package io.github.asthenia0412.multipleformatreportexport.config;
+
+import io.github.asthenia0412.multipleformatreportexport.util.generator.ArrowSettings;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Arrow IPC导出配置
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(ArrowExportProperties.class)
+public class ArrowExportConfig {
+
+    @Bean
+    public ArrowSettings arrowSettings(ArrowExportProperties properties) {
+        ArrowSettings settings = new ArrowSettings(properties.getBatchRows(), properties.getCompression());
+        log.info("Arrow导出参数: {}", settings);
+        return settings;
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.asthenia0412.multipleformatreportexport.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Arrow IPC导出配置
+ */
+@Data
+@ConfigurationProperties(prefix = "report.export.arrow")
+public class ArrowExportProperties {
+
+    /**
+     * 每个记录批次的行数，越大压缩率越高，导出时占用的内存也越大
+     */
+    private int batchRows = 65536;
+
+    /**
+     * 列压缩算法：zstd、none（不压缩，文件大但写出和读取最快）
+     */
+    private String compression = "zstd";
+}
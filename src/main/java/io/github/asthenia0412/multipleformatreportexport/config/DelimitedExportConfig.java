@@ -0,0 +1,31 @@
+package io.github.asthenia0412.multipleformatreportexport.config;
+
+import io.github.asthenia0412.multipleformatreportexport.util.generator.ChunkedRenderer;
+import io.github.asthenia0412.multipleformatreportexport.util.generator.CsvReportGenerator;
+import io.github.asthenia0412.multipleformatreportexport.util.strategy.DelimitedExportStrategy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * CSV/TSV导出策略配置，两种格式共用同一个策略实现，只是分隔符和格式信息不同
+ */
+@Configuration
+public class DelimitedExportConfig {
+
+    @Bean
+    public DelimitedExportStrategy csvExportStrategy(@Value("${report.export.csv.bom:false}") boolean bom,
+                                                     ChunkedRenderer renderer) {
+        return new DelimitedExportStrategy("csv", "CSV", "CSV逗号分隔格式",
+                new String[]{"逗号分隔", "通用导入", "体积小"},
+                "text/csv", CsvReportGenerator.CSV_DELIMITER, bom, renderer);
+    }
+
+    @Bean
+    public DelimitedExportStrategy tsvExportStrategy(@Value("${report.export.tsv.bom:false}") boolean bom,
+                                                     ChunkedRenderer renderer) {
+        return new DelimitedExportStrategy("tsv", "TSV", "TSV制表符分隔格式",
+                new String[]{"制表符分隔", "通用导入", "体积小"},
+                "text/tab-separated-values", CsvReportGenerator.TSV_DELIMITER, bom, renderer);
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.asthenia0412.multipleformatreportexport.config;
+
+import io.github.asthenia0412.multipleformatreportexport.util.ResponseCompressor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 导出响应压缩配置
+ */
+@Configuration
+@EnableConfigurationProperties(ExportCompressionProperties.class)
+public class ExportCompressionConfig {
+
+    @Bean
+    public ResponseCompressor responseCompressor(ExportCompressionProperties properties) {
+        return new ResponseCompressor(properties);
+    }
+}
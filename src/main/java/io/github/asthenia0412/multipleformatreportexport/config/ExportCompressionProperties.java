@@ -0,0 +1,74 @@
+package io.github.asthenia0412.multipleformatreportexport.config;
+
+import io.github.asthenia0412.multipleformatreportexport.util.ExportStrategyRegistry;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.Deflater;
+
+/**
+ * 导出响应压缩配置
+ * 客户端在Accept-Encoding中接受gzip时压缩导出内容，文本格式（HTML、XML、CSV、JSON等）体积通常可缩小80%以上
+ */
+@Data
+@ConfigurationProperties(prefix = "report.export.compression")
+public class ExportCompressionProperties {
+
+    /**
+     * 是否启用响应压缩
+     */
+    private boolean enabled = true;
+
+    /**
+     * 默认gzip压缩级别（1最快，9压缩率最高）
+     */
+    private int level = 6;
+
+    /**
+     * 按格式覆盖的压缩级别，key为格式名（如html、xml）；某格式不压缩时加入skip-formats
+     */
+    private Map<String, Integer> levels = new HashMap<>();
+
+    /**
+     * 本身已压缩的格式（zip容器、内部已压缩），再次gzip只消耗CPU，不压缩
+     */
+    private Set<String> skipFormats = new HashSet<>(Arrays.asList("xlsx", "docx", "pdf", "arrow"));
+
+    /**
+     * 小于该字节数的报告不压缩（仅对已知长度的/export响应生效）
+     */
+    private int minBytes = 1024;
+
+    public void setLevel(int level) {
+        this.level = checkLevel(level);
+    }
+
+    /**
+     * 格式名按注册表的规则规范化，与导出时的格式名一致
+     */
+    public void setLevels(Map<String, Integer> levels) {
+        Map<String, Integer> normalized = new HashMap<>();
+        levels.forEach((format, level) -> normalized.put(ExportStrategyRegistry.normalize(format), checkLevel(level)));
+        this.levels = normalized;
+    }
+
+    public void setSkipFormats(Set<String> skipFormats) {
+        Set<String> normalized = new HashSet<>();
+        for (String format : skipFormats) {
+            normalized.add(ExportStrategyRegistry.normalize(format));
+        }
+        this.skipFormats = normalized;
+    }
+
+    private static int checkLevel(Integer level) {
+        if (level == null || level < Deflater.BEST_SPEED || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("gzip压缩级别必须在1到9之间: " + level);
+        }
+        return level;
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.asthenia0412.multipleformatreportexport.config;
+
+import io.github.asthenia0412.multipleformatreportexport.util.ExportExecutors;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 导出线程池配置
+ */
+@Configuration
+@EnableConfigurationProperties(ExportExecutorProperties.class)
+public class ExportExecutorConfig implements WebMvcConfigurer {
+
+    private final ExportExecutorProperties properties;
+
+    public ExportExecutorConfig(ExportExecutorProperties properties) {
+        this.properties = properties;
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExportExecutors exportExecutors() {
+        return new ExportExecutors(properties);
+    }
+
+    /**
+     * 流式导出（StreamingResponseBody）同样运行在有界线程池上，满载时拒绝
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(new TaskExecutorAdapter(exportExecutors().getExecutor(ExportExecutors.STREAMING)));
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.asthenia0412.multipleformatreportexport.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 导出线程池配置
+ * 每种导出格式使用独立的有界线程池（舱壁隔离），未单独配置的格式使用默认值
+ */
+@Data
+@ConfigurationProperties(prefix = "report.export.executor")
+public class ExportExecutorProperties {
+
+    /**
+     * 默认核心线程数
+     */
+    private int coreSize = 2;
+
+    /**
+     * 默认最大线程数
+     */
+    private int maxSize = 4;
+
+    /**
+     * 默认等待队列容量，队列满时直接拒绝
+     */
+    private int queueCapacity = 20;
+
+    /**
+     * 空闲线程存活时间（秒）
+     */
+    private int keepAliveSeconds = 60;
+
+    /**
+     * 拒绝时返回给客户端的Retry-After（秒）
+     */
+    private int retryAfterSeconds = 5;
+
+    /**
+     * 按格式覆盖的线程池配置，key为格式名（如pdf、docx）
+     */
+    private Map<String, Pool> formats = new HashMap<>();
+
+    /**
+     * 流式导出（StreamingResponseBody）使用的线程池配置
+     */
+    private Pool streaming = new Pool();
+
+    /**
+     * 异步导出任务使用的线程池配置，与同步导出隔离，长时间运行的任务不会占满格式线程池
+     */
+    private Pool jobs = new Pool();
+
+    /**
+     * 单个线程池配置，未设置的字段使用默认值
+     */
+    @Data
+    public static class Pool {
+        private Integer coreSize;
+        private Integer maxSize;
+        private Integer queueCapacity;
+    }
+}
@@ -6,16 +6,26 @@ import org.apache.ibatis.type.TypeHandlerRegistry;
 import org.mybatis.spring.SqlSessionFactoryBean;
 import org.mybatis.spring.annotation.MapperScan;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 
 import javax.sql.DataSource;
+import java.util.Properties;
 
 @Configuration
 @MapperScan("io.github.asthenia0412.multipleformatreportexport.mapper")
 public class MybatisConfig {
     
+    /**
+     * 游标导出的JDBC fetchSize
+     * MySQL需在连接串中开启useCursorFetch=true才会按该值分批拉取；
+     * 未开启时可设为-2147483648（Integer.MIN_VALUE）启用逐行流式读取
+     */
+    @Value("${report.export.fetch-size:1000}")
+    private int exportFetchSize;
+    
     @Bean
     public SqlSessionFactory sqlSessionFactory(@Autowired DataSource dataSource) throws Exception {
         SqlSessionFactoryBean sessionFactory = new SqlSessionFactoryBean();
@@ -26,6 +36,11 @@ public class MybatisConfig {
             new PathMatchingResourcePatternResolver().getResources("classpath:mapper/*.xml")
         );
         
+        // 映射文件中可通过${exportFetchSize}引用游标查询的fetchSize
+        Properties properties = new Properties();
+        properties.setProperty("exportFetchSize", String.valueOf(exportFetchSize));
+        sessionFactory.setConfigurationProperties(properties);
+        
         // 设置别名包
         sessionFactory.setTypeAliasesPackage("io.github.asthenia0412.multipleformatreportexport.entity");
         
@@ -0,0 +1,31 @@
+package io.github.asthenia0412.multipleformatreportexport.config;
+
+import io.github.asthenia0412.multipleformatreportexport.util.generator.ChunkedRenderer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 分块并行渲染配置
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(ParallelRenderProperties.class)
+public class ParallelRenderConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ChunkedRenderer chunkedRenderer(ParallelRenderProperties properties) {
+        if (!properties.isEnabled()) {
+            return new ChunkedRenderer(null, properties.getChunkSize(), properties.getPdfChunkSize(), false);
+        }
+        int threads = properties.getParallelism() > 0 ? properties.getParallelism() : Runtime.getRuntime().availableProcessors();
+        ChunkedRenderer renderer = new ChunkedRenderer(new ForkJoinPool(threads),
+                properties.getChunkSize(), properties.getPdfChunkSize(), properties.isPdfEnabled());
+        log.info("分块并行渲染已启用: 线程数 {}, 每块 {} 行, PDF并行 {}, PDF每片段 {} 行",
+                threads, properties.getChunkSize(), properties.isPdfEnabled(), properties.getPdfChunkSize());
+        return renderer;
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.asthenia0412.multipleformatreportexport.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 分块并行渲染配置
+ * 渲染是纯计算任务，使用独立的ForkJoinPool，与导出线程池分开
+ */
+@Data
+@ConfigurationProperties(prefix = "report.export.parallel")
+public class ParallelRenderProperties {
+
+    /**
+     * 是否启用分块并行渲染（HTML表格行、XML明细等逐行格式）
+     */
+    private boolean enabled = true;
+
+    /**
+     * 渲染线程数，0表示CPU核数
+     */
+    private int parallelism = 0;
+
+    /**
+     * 每块行数，数据不足一块时不并行
+     */
+    private int chunkSize = 2000;
+
+    /**
+     * PDF每个片段的行数，片段之间换页，数据不足一个片段时不并行
+     */
+    private int pdfChunkSize = 5000;
+
+    /**
+     * PDF是否并行渲染，默认关闭：片段之间强制换页，页数和版面与顺序渲染不同
+     */
+    private boolean pdfEnabled = false;
+}
@@ -0,0 +1,22 @@
+package io.github.asthenia0412.multipleformatreportexport.config;
+
+import io.github.asthenia0412.multipleformatreportexport.util.generator.PdfStyleCache;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * PDF字体配置
+ */
+@Configuration
+@EnableConfigurationProperties(PdfFontProperties.class)
+public class PdfFontConfig {
+
+    /**
+     * 启动时加载字体，避免首个PDF导出请求承担字体解析的开销
+     */
+    @Bean
+    public PdfStyleCache pdfStyleCache(PdfFontProperties properties) {
+        return PdfStyleCache.create(properties.getFontPath(), properties.isFontSubset());
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.asthenia0412.multipleformatreportexport.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * PDF字体配置
+ */
+@Data
+@ConfigurationProperties(prefix = "report.export.pdf")
+public class PdfFontProperties {
+
+    /**
+     * 嵌入PDF的TTF/OTF字体（文件路径或类路径资源），为空时使用iText自带的STSong-Light
+     */
+    private String fontPath;
+
+    /**
+     * 嵌入字体时只嵌入用到的字形，显著减小文件体积
+     */
+    private boolean fontSubset = true;
+}
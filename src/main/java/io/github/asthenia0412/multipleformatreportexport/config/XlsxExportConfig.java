@@ -0,0 +1,24 @@
+package io.github.asthenia0412.multipleformatreportexport.config;
+
+import io.github.asthenia0412.multipleformatreportexport.util.generator.XlsxSettings;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * XLSX导出配置
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(XlsxExportProperties.class)
+public class XlsxExportConfig {
+
+    @Bean
+    public XlsxSettings xlsxSettings(XlsxExportProperties properties) {
+        XlsxSettings settings = new XlsxSettings(properties.getRowWindow(), properties.isCompressTempFiles(),
+                properties.isSharedStrings(), properties.getCompressionLevel());
+        log.info("XLSX导出参数: {}", settings);
+        return settings;
+    }
+}
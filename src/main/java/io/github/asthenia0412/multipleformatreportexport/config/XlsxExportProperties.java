@@ -0,0 +1,32 @@
+package io.github.asthenia0412.multipleformatreportexport.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * XLSX（SXSSF）导出配置
+ */
+@Data
+@ConfigurationProperties(prefix = "report.export.xlsx")
+public class XlsxExportProperties {
+
+    /**
+     * SXSSF内存中保留的行数，超出的行刷写到临时文件
+     */
+    private int rowWindow = 100;
+
+    /**
+     * 临时文件是否gzip压缩，磁盘紧张时开启
+     */
+    private boolean compressTempFiles = false;
+
+    /**
+     * 是否使用共享字符串表，重复值多时文件更小，但字符串表常驻内存
+     */
+    private boolean sharedStrings = false;
+
+    /**
+     * 输出zip压缩级别（-1为默认，0不压缩，9压缩率最高）
+     */
+    private int compressionLevel = -1;
+}
@@ -0,0 +1,49 @@
+package io.github.asthenia0412.multipleformatreportexport.controller;
+
+import io.github.asthenia0412.multipleformatreportexport.exception.InvalidExportRequestException;
+import io.github.asthenia0412.multipleformatreportexport.exception.NoExportDataException;
+import io.github.asthenia0412.multipleformatreportexport.util.ExportExecutors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 导出相关接口的统一异常处理
+ */
+@RestControllerAdvice(assignableTypes = {ReportController.class, ExportJobController.class})
+public class ExportExceptionHandler {
+    
+    @Autowired
+    private ExportExecutors exportExecutors;
+    
+    /**
+     * 导出线程池已满：快速拒绝并提示客户端稍后重试，而不是无限排队
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<String> handleRejected(RejectedExecutionException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(exportExecutors.getRetryAfterSeconds()))
+                .body("导出任务繁忙，请稍后重试");
+    }
+    
+    /**
+     * 导出参数错误（格式不支持、分页令牌无效等），与/data接口一致返回400
+     */
+    @ExceptionHandler(InvalidExportRequestException.class)
+    public ResponseEntity<String> handleInvalidRequest(InvalidExportRequestException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+    
+    /**
+     * 没有可导出的数据（如请求的页超出最后一页）
+     */
+    @ExceptionHandler(NoExportDataException.class)
+    public ResponseEntity<String> handleNoData(NoExportDataException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
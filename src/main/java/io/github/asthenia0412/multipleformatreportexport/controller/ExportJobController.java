@@ -0,0 +1,93 @@
+package io.github.asthenia0412.multipleformatreportexport.controller;
+
+import io.github.asthenia0412.multipleformatreportexport.entity.ExportJob;
+import io.github.asthenia0412.multipleformatreportexport.exception.InvalidExportRequestException;
+import io.github.asthenia0412.multipleformatreportexport.service.ExportJobService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+
+/**
+ * 异步导出任务接口
+ * 提交任务后立即返回任务ID，客户端轮询状态，完成后下载落盘的结果文件
+ */
+@RestController
+@RequestMapping("/api/report/jobs")
+@CrossOrigin(origins = "*")
+public class ExportJobController {
+    
+    @Autowired
+    private ExportJobService exportJobService;
+    
+    /**
+     * 提交导出任务，不传page/pageSize时导出全部数据
+     */
+    @PostMapping
+    public ResponseEntity<?> submit(
+            @RequestParam(defaultValue = "xlsx") String format,
+            @RequestParam(defaultValue = "bug") String issueType,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer pageSize) {
+        
+        try {
+            ExportJob job = exportJobService.submit(format, issueType, page, pageSize);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/report/jobs/" + job.getJobId()))
+                    .body(job);
+        } catch (InvalidExportRequestException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+    
+    /**
+     * 查询任务状态和进度
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ExportJob> getJob(@PathVariable String jobId) {
+        ExportJob job = exportJobService.getJob(jobId);
+        if (job != null) {
+            return ResponseEntity.ok(job);
+        } else {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    /**
+     * 下载任务结果，任务未完成时返回409
+     */
+    @GetMapping("/{jobId}/download")
+    public ResponseEntity<Resource> download(@PathVariable String jobId) {
+        ExportJob job = exportJobService.getJob(jobId);
+        if (job == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (job.getStatus() != ExportJob.Status.COMPLETED) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + job.getFileName())
+                .contentType(MediaType.parseMediaType(job.getMimeType()))
+                .contentLength(job.getFileSize())
+                .body(new FileSystemResource(job.getFile()));
+    }
+    
+    /**
+     * 删除任务及结果文件
+     */
+    @DeleteMapping("/{jobId}")
+    public ResponseEntity<Void> deleteJob(@PathVariable String jobId) {
+        if (exportJobService.deleteJob(jobId)) {
+            return ResponseEntity.noContent().build();
+        } else {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
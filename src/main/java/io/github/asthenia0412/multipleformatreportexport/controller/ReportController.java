@@ -1,60 +1,210 @@
 package io.github.asthenia0412.multipleformatreportexport.controller;
 
+import io.github.asthenia0412.multipleformatreportexport.entity.CodeAnalysis;
 import io.github.asthenia0412.multipleformatreportexport.entity.FormatInfo;
+import io.github.asthenia0412.multipleformatreportexport.entity.KeysetPage;
+import io.github.asthenia0412.multipleformatreportexport.exception.InvalidExportRequestException;
+import io.github.asthenia0412.multipleformatreportexport.service.ReportCache;
 import io.github.asthenia0412.multipleformatreportexport.service.ReportService;
-import io.github.asthenia0412.multipleformatreportexport.util.ExportStrategyFactory;
+import io.github.asthenia0412.multipleformatreportexport.util.ExportStrategy;
+import io.github.asthenia0412.multipleformatreportexport.util.ExportStrategyRegistry;
+import io.github.asthenia0412.multipleformatreportexport.util.ResponseCompressor;
+import io.github.asthenia0412.multipleformatreportexport.util.generator.ReportStatistics;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/report")
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = "X-Next-Page-Token")
 public class ReportController {
     
+    /**
+     * 游标分页时携带下一页令牌的响应头
+     */
+    private static final String NEXT_PAGE_TOKEN_HEADER = "X-Next-Page-Token";
+    
     @Autowired
     private ReportService reportService;
+    
+    @Autowired
+    private ReportCache reportCache;
+    
+    @Autowired
+    private ExportStrategyRegistry strategyRegistry;
+    
+    @Autowired
+    private ResponseCompressor responseCompressor;
 
     /**
      * 导出报告
+     * 传入pageToken参数（首页传空值）时使用游标分页，下一页令牌通过X-Next-Page-Token响应头返回，
+     * 否则按page/pageSize偏移分页；客户端接受gzip时按格式压缩响应
      */
     @GetMapping("/export")
-    public CompletableFuture<ResponseEntity<byte[]>> export(
-            @RequestParam(defaultValue = "xls") String format,
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> export(
+            @RequestParam(defaultValue = "xlsx") String format,
             @RequestParam(defaultValue = "bug") String issueType,
             @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "1000") int pageSize) {
+            @RequestParam(defaultValue = "1000") int pageSize,
+            @RequestParam(required = false) String pageToken,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         
         // 验证格式是否支持
-        if (!ExportStrategyFactory.isFormatSupported(format)) {
-            // CompletedFuture的会用NIL解决空指针问题-内部存储一个CompletableFuture实例
-            return CompletableFuture.completedFuture(
-                ResponseEntity.badRequest().body("不支持的导出格式: ".getBytes())
-            );
+        if (!strategyRegistry.isFormatSupported(format)) {
+            throw new InvalidExportRequestException("不支持的导出格式: " + format);
         }
         
-        return reportService.exportReport(format, issueType, page, pageSize)
+        CompletableFuture<byte[]> future;
+        String nextPageToken = null;
+        if (pageToken != null) {
+            KeysetPage<CodeAnalysis> keysetPage = reportService.getKeysetData(issueType, pageToken, pageSize);
+            nextPageToken = keysetPage.getNextPageToken();
+            future = reportService.exportReport(format, keysetPage.getData());
+        } else {
+            future = reportService.exportReport(format, issueType, page, pageSize);
+        }
+        
+        String next = nextPageToken;
+        int compressionLevel = responseCompressor.negotiate(acceptEncoding, format);
+        return future
                 .thenApply(bytes -> {
                     // 获取格式信息
                     FormatInfo formatInfo = reportService.getFormatInfo(format);
                     String fileName = "report." + formatInfo.getFileExtension();
                     String contentType = formatInfo.getMimeType();
                     
-                    return ResponseEntity.ok()
+                    ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
                             .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + fileName)
-                            .contentType(MediaType.parseMediaType(contentType))
-                            .body(bytes);
+                            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                            .contentType(MediaType.parseMediaType(contentType));
+                    if (next != null) {
+                        builder.header(NEXT_PAGE_TOKEN_HEADER, next);
+                    }
+                    // 缓存中保存未压缩的报告，写出时边压缩边发送，不再生成完整的压缩副本
+                    if (!responseCompressor.shouldCompress(bytes.length, compressionLevel)) {
+                        StreamingResponseBody body = outputStream -> outputStream.write(bytes);
+                        return builder.contentLength(bytes.length).body(body);
+                    }
+                    builder.header(HttpHeaders.CONTENT_ENCODING, ResponseCompressor.GZIP);
+                    StreamingResponseBody body = outputStream -> {
+                        GZIPOutputStream gzip = responseCompressor.wrap(outputStream, compressionLevel);
+                        gzip.write(bytes);
+                        gzip.finish();
+                    };
+                    return builder.body(body);
                 })
                 .exceptionally(throwable -> {
+                    byte[] message = ("导出失败: " + throwable.getMessage()).getBytes(StandardCharsets.UTF_8);
+                    StreamingResponseBody body = outputStream -> outputStream.write(message);
                     return ResponseEntity.internalServerError()
-                            .body(("导出失败: " + throwable.getMessage()).getBytes());
+                            .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+                            .body(body);
                 });
     }
     
+    /**
+     * 流式导出报告：渲染过程中直接写入HTTP响应，不在堆内缓存完整报告
+     */
+    @GetMapping("/export/stream")
+    public ResponseEntity<StreamingResponseBody> exportStream(
+            @RequestParam(defaultValue = "xlsx") String format,
+            @RequestParam(defaultValue = "bug") String issueType,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "1000") int pageSize,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        
+        // 先校验参数并查询数据，流开始写出后就无法再返回错误状态码
+        List<CodeAnalysis> dataList = reportService.loadExportData(format, issueType, page, pageSize);
+        
+        ExportStrategy strategy = strategyRegistry.getStrategy(format);
+        int compressionLevel = responseCompressor.negotiate(acceptEncoding, format);
+        StreamingResponseBody body = outputStream -> {
+            if (compressionLevel > 0) {
+                GZIPOutputStream gzip = responseCompressor.wrap(outputStream, compressionLevel);
+                reportService.exportReport(format, dataList, gzip);
+                gzip.finish();
+            } else {
+                reportService.exportReport(format, dataList, outputStream);
+            }
+        };
+        
+        return streamingResponse(strategy, compressionLevel, body);
+    }
+    
+    /**
+     * 通过数据库游标流式导出全部数据（不分页），适合百万级数据导出
+     */
+    @GetMapping("/export/all")
+    public ResponseEntity<StreamingResponseBody> exportAll(
+            @RequestParam(defaultValue = "xlsx") String format,
+            @RequestParam(defaultValue = "bug") String issueType,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        
+        // 开始写出前校验，格式不支持、没有数据或xls超出行数上限时返回400
+        reportService.checkExportAll(format, issueType);
+        
+        ExportStrategy strategy = strategyRegistry.getStrategy(format);
+        int compressionLevel = responseCompressor.negotiate(acceptEncoding, format);
+        StreamingResponseBody body = outputStream -> {
+            if (compressionLevel > 0) {
+                GZIPOutputStream gzip = responseCompressor.wrap(outputStream, compressionLevel);
+                reportService.exportAll(format, issueType, gzip);
+                gzip.finish();
+            } else {
+                reportService.exportAll(format, issueType, outputStream);
+            }
+        };
+        
+        return streamingResponse(strategy, compressionLevel, body);
+    }
+    
+    /**
+     * 构造流式导出响应，压缩时带Content-Encoding头
+     */
+    private static ResponseEntity<StreamingResponseBody> streamingResponse(ExportStrategy strategy, int compressionLevel,
+                                                                          StreamingResponseBody body) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=report." + strategy.getFileExtension())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.parseMediaType(strategy.getMimeType()));
+        if (compressionLevel > 0) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, ResponseCompressor.GZIP);
+        }
+        return builder.body(body);
+    }
+    
+    /**
+     * 多格式打包导出：数据只查询一次，各格式并发渲染，按完成顺序写入ZIP
+     * 例如 formats=pdf,xlsx,xml
+     */
+    @GetMapping("/export/bundle")
+    public ResponseEntity<StreamingResponseBody> exportBundle(
+            @RequestParam List<String> formats,
+            @RequestParam(defaultValue = "bug") String issueType,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "1000") int pageSize) {
+        
+        // 查询数据并提交渲染后再开始写出，参数错误、无数据、线程池已满都能返回正确的状态码和错误信息
+        Map<String, CompletableFuture<byte[]>> artifacts = reportService.exportBundle(formats, issueType, page, pageSize);
+        
+        StreamingResponseBody body = outputStream -> reportService.writeBundle(artifacts, outputStream);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=report.zip")
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .body(body);
+    }
+    
     /**
      * 获取支持的导出格式列表
      */
@@ -77,31 +227,65 @@ public class ReportController {
         }
     }
     
+    /**
+     * 重新加载格式信息快照（format_info表变更后调用）
+     */
+    @PostMapping("/formats/reload")
+    public ResponseEntity<String[]> reloadFormats() {
+        if (!reportService.reloadFormatInfo()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(reportService.getSupportedFormats());
+    }
+    
+    /**
+     * 获取报告缓存命中统计
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<Map<String, Object>> getCacheStatistics() {
+        return ResponseEntity.ok(reportCache.getStatistics());
+    }
+    
     /**
      * 获取总记录数
      */
     @GetMapping("/count")
-    public ResponseEntity<Integer> getTotalCount() {
-        int count = reportService.getTotalCount();
+    public ResponseEntity<Integer> getTotalCount(@RequestParam(required = false) String issueType) {
+        int count = reportService.getTotalCount(issueType);
         return ResponseEntity.ok(count);
     }
     
+    /**
+     * 获取全量统计信息（执行摘要 + 问题类型分布），由数据库聚合计算
+     */
+    @GetMapping("/statistics")
+    public ResponseEntity<ReportStatistics> getStatistics(@RequestParam(required = false) String issueType) {
+        return ResponseEntity.ok(reportService.getStatistics(issueType));
+    }
+    
     /**
      * 获取分页数据（用于预览）
+     * 传入pageToken参数（首页传空值）时使用游标分页，返回数据及下一页令牌
      */
     @GetMapping("/data")
     public ResponseEntity<?> getPagedData(
             @RequestParam(defaultValue = "bug") String issueType,
             @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "10") int pageSize) {
+            @RequestParam(defaultValue = "10") int pageSize,
+            @RequestParam(required = false) String pageToken) {
         
         if (page < 1 || pageSize < 1 || pageSize > 100) {
             return ResponseEntity.badRequest().body("页码和页大小必须为正数，页大小不能超过100");
         }
         
         try {
+            if (pageToken != null) {
+                return ResponseEntity.ok(reportService.getKeysetData(issueType, pageToken, pageSize));
+            }
             Object data = reportService.getPagedData(issueType, page, pageSize);
             return ResponseEntity.ok(data);
+        } catch (InvalidExportRequestException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.internalServerError().body("获取数据失败: " + e.getMessage());
         }
@@ -0,0 +1,23 @@
+package io.github.asthenia0412.multipleformatreportexport.entity;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 数据版本标记
+ * 由最后更新时间和行数组成，二者都不变时认为数据未变化
+ */
+@Data
+public class DataVersion {
+    
+    /**
+     * 最后更新时间 max(updated_at)
+     */
+    private LocalDateTime lastUpdated;
+    
+    /**
+     * 行数
+     */
+    private long rowCount;
+}
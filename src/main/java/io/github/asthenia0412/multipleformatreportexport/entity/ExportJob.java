@@ -0,0 +1,107 @@
+package io.github.asthenia0412.multipleformatreportexport.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.github.asthenia0412.multipleformatreportexport.util.ExportProgress;
+import lombok.Data;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+/**
+ * 异步导出任务
+ */
+@Data
+public class ExportJob {
+    
+    /**
+     * 任务状态
+     */
+    public enum Status {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+    
+    /**
+     * 任务ID
+     */
+    private String jobId;
+    
+    /**
+     * 导出格式
+     */
+    private String format;
+    
+    /**
+     * 问题类型
+     */
+    private String issueType;
+    
+    /**
+     * 页码，为空时通过游标导出全部数据
+     */
+    private Integer page;
+    
+    /**
+     * 页大小，为空时通过游标导出全部数据
+     */
+    private Integer pageSize;
+    
+    /**
+     * 任务状态
+     */
+    private volatile Status status = Status.PENDING;
+    
+    /**
+     * 失败原因
+     */
+    private volatile String errorMessage;
+    
+    /**
+     * 结果文件名
+     */
+    private String fileName;
+    
+    /**
+     * 结果MIME类型
+     */
+    private String mimeType;
+    
+    /**
+     * 结果文件大小（字节）
+     */
+    private volatile long fileSize;
+    
+    /**
+     * 创建时间
+     */
+    private LocalDateTime createdTime;
+    
+    /**
+     * 完成时间（成功或失败）
+     */
+    private volatile LocalDateTime finishedTime;
+    
+    /**
+     * 结果落盘文件
+     */
+    @JsonIgnore
+    private Path file;
+    
+    /**
+     * 渲染进度
+     */
+    @JsonIgnore
+    private final ExportProgress progress = new ExportProgress();
+    
+    public long getTotalRows() {
+        return progress.getTotalRows();
+    }
+    
+    public long getProcessedRows() {
+        return progress.getProcessedRows();
+    }
+    
+    public int getPercent() {
+        // 明细行遍历完后仍需写出文档尾部，完成前最多显示99%
+        return status == Status.COMPLETED ? 100 : Math.min(99, progress.getPercent());
+    }
+}
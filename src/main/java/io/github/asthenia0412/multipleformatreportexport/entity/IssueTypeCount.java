@@ -0,0 +1,20 @@
+package io.github.asthenia0412.multipleformatreportexport.entity;
+
+import lombok.Data;
+
+/**
+ * 按问题类型分组的文件数量（数据库端 GROUP BY issue_type）
+ */
+@Data
+public class IssueTypeCount {
+    
+    /**
+     * 问题类型
+     */
+    private String issueType;
+    
+    /**
+     * 该类型的文件数量
+     */
+    private long fileCount;
+}
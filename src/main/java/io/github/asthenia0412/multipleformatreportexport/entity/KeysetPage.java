@@ -0,0 +1,29 @@
+package io.github.asthenia0412.multipleformatreportexport.entity;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 游标（keyset）分页结果
+ */
+@Data
+public class KeysetPage<T> {
+    
+    /**
+     * 当前页数据
+     */
+    private List<T> data;
+    
+    /**
+     * 下一页的续传令牌，没有更多数据时为null
+     */
+    private String nextPageToken;
+    
+    public KeysetPage() {}
+    
+    public KeysetPage(List<T> data, String nextPageToken) {
+        this.data = data;
+        this.nextPageToken = nextPageToken;
+    }
+}
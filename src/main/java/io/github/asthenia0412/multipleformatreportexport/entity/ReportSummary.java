@@ -0,0 +1,25 @@
+package io.github.asthenia0412.multipleformatreportexport.entity;
+
+import lombok.Data;
+
+/**
+ * 执行摘要聚合结果（数据库端 COUNT/SUM）
+ */
+@Data
+public class ReportSummary {
+    
+    /**
+     * 文件总数 count(*)
+     */
+    private long totalFiles;
+    
+    /**
+     * 问题总数 sum(issue_count)
+     */
+    private long totalIssues;
+    
+    /**
+     * 代码总行数 sum(code_line)
+     */
+    private long totalCodeLines;
+}
@@ -0,0 +1,12 @@
+package io.github.asthenia0412.multipleformatreportexport.exception;
+
+/**
+ * 导出请求参数错误（格式不支持、分页参数或分页令牌无效、超出导出上限等），返回400
+ * 继承IllegalArgumentException，按参数错误捕获的现有代码不受影响
+ */
+public class InvalidExportRequestException extends IllegalArgumentException {
+
+    public InvalidExportRequestException(String message) {
+        super(message);
+    }
+}
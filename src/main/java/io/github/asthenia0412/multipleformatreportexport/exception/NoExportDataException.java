@@ -0,0 +1,11 @@
+package io.github.asthenia0412.multipleformatreportexport.exception;
+
+/**
+ * 查询条件下没有可导出的数据（如请求的页超出最后一页），返回400
+ */
+public class NoExportDataException extends IllegalStateException {
+
+    public NoExportDataException() {
+        super("没有可导出的数据");
+    }
+}
@@ -2,9 +2,13 @@ package io.github.asthenia0412.multipleformatreportexport.mapper;
 
 
 import io.github.asthenia0412.multipleformatreportexport.entity.CodeAnalysis;
+import io.github.asthenia0412.multipleformatreportexport.entity.DataVersion;
+import io.github.asthenia0412.multipleformatreportexport.entity.IssueTypeCount;
+import io.github.asthenia0412.multipleformatreportexport.entity.ReportSummary;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.util.List;
 
@@ -21,4 +25,57 @@ public interface CodeAnalysisMapper {
 
 
     int countAll();
+
+
+    int countByIssueType(@Param("issueType") String issueType);
+
+
+    /**
+     * 数据库端聚合执行摘要（文件数、问题总数、代码总行数）
+     * @param issueType 问题类型，为空时统计全部
+     */
+    ReportSummary selectSummary(@Param("issueType") String issueType);
+
+
+    /**
+     * 数据库端按问题类型分组统计文件数量，忽略空类型
+     * @param issueType 问题类型，为空时统计全部
+     */
+    List<IssueTypeCount> selectIssueTypeStats(@Param("issueType") String issueType);
+
+
+    /**
+     * 查询数据版本（最后更新时间 + 行数），用于判断缓存的报告是否过期
+     * @param issueType 问题类型，为空时统计全部
+     */
+    DataVersion selectDataVersion(@Param("issueType") String issueType);
+
+
+    /**
+     * 游标（keyset）分页：按 (issue_type, id) 索引定位，返回ID大于lastId的下一页
+     * @param lastId 上一页最后一条记录ID，第一页传null
+     */
+    List<CodeAnalysis> findByIssueTypeAfter(@Param("issueType") String issueType,
+                                            @Param("lastId") Long lastId,
+                                            @Param("pageSize") int pageSize);
+
+
+    /**
+     * 游标（keyset）分页：按主键定位，返回ID大于lastId的下一页
+     * @param lastId 上一页最后一条记录ID，第一页传null
+     */
+    List<CodeAnalysis> findAllAfter(@Param("lastId") Long lastId,
+                                    @Param("pageSize") int pageSize);
+
+
+    /**
+     * 游标方式按问题类型遍历全部数据，需在事务（同一SqlSession）内消费并关闭
+     */
+    Cursor<CodeAnalysis> streamByIssueType(@Param("issueType") String issueType);
+
+
+    /**
+     * 游标方式遍历全部数据，需在事务（同一SqlSession）内消费并关闭
+     */
+    Cursor<CodeAnalysis> streamAll();
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package io.github.asthenia0412.multipleformatreportexport.service;
+
+import io.github.asthenia0412.multipleformatreportexport.entity.ExportJob;
+
+public interface ExportJobService {
+    /**
+     * 提交异步导出任务，结果落盘到本地文件
+     * @param format 导出格式
+     * @param issueType 问题类型
+     * @param page 页码，为空时导出全部数据
+     * @param pageSize 页大小，为空时导出全部数据
+     * @return 新建的任务
+     */
+    ExportJob submit(String format, String issueType, Integer page, Integer pageSize);
+    
+    /**
+     * 查询任务
+     * @param jobId 任务ID
+     * @return 任务，不存在或已过期时返回null
+     */
+    ExportJob getJob(String jobId);
+    
+    /**
+     * 删除任务及其结果文件
+     * @param jobId 任务ID
+     * @return 是否存在该任务
+     */
+    boolean deleteJob(String jobId);
+    
+    /**
+     * 清理超过保留时间的任务及结果文件
+     */
+    void cleanupExpiredJobs();
+}
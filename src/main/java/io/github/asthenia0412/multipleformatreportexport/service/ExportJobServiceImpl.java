@@ -0,0 +1,176 @@
+package io.github.asthenia0412.multipleformatreportexport.service;
+
+import io.github.asthenia0412.multipleformatreportexport.entity.ExportJob;
+import io.github.asthenia0412.multipleformatreportexport.exception.InvalidExportRequestException;
+import io.github.asthenia0412.multipleformatreportexport.util.ExportExecutors;
+import io.github.asthenia0412.multipleformatreportexport.util.ExportStrategy;
+import io.github.asthenia0412.multipleformatreportexport.util.ExportStrategyRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+@Slf4j
+@Service
+public class ExportJobServiceImpl implements ExportJobService {
+    
+    @Autowired
+    private ReportService reportService;
+    
+    @Autowired
+    private ExportExecutors exportExecutors;
+    
+    @Autowired
+    private ExportStrategyRegistry strategyRegistry;
+    
+    /**
+     * 结果文件落盘目录
+     */
+    @Value("${report.export.job.spool-dir:${java.io.tmpdir}/report-export-jobs}")
+    private String spoolDir;
+    
+    /**
+     * 任务结束后的保留时间（分钟），超时后任务与结果文件一并删除
+     */
+    @Value("${report.export.job.ttl-minutes:60}")
+    private long ttlMinutes;
+    
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+    
+    @Override
+    public ExportJob submit(String format, String issueType, Integer page, Integer pageSize) {
+        if (!strategyRegistry.isFormatSupported(format)) {
+            throw new InvalidExportRequestException("不支持的导出格式: " + format);
+        }
+        if ((page == null) != (pageSize == null) || (page != null && (page < 1 || pageSize < 1))) {
+            throw new InvalidExportRequestException("页码和页大小必须同时为正数，或同时为空表示导出全部");
+        }
+        if (page == null) {
+            reportService.checkExportAll(format, issueType);
+        }
+        
+        ExportStrategy strategy = strategyRegistry.getStrategy(format);
+        ExportJob job = new ExportJob();
+        job.setJobId(UUID.randomUUID().toString());
+        job.setFormat(format);
+        job.setIssueType(issueType);
+        job.setPage(page);
+        job.setPageSize(pageSize);
+        job.setFileName("report." + strategy.getFileExtension());
+        job.setMimeType(strategy.getMimeType());
+        job.setCreatedTime(LocalDateTime.now());
+        
+        jobs.put(job.getJobId(), job);
+        try {
+            // 任务使用独立的有界线程池，不占用同步导出的格式线程池，满载时拒绝提交
+            exportExecutors.getExecutor(ExportExecutors.JOBS).execute(() -> runJob(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getJobId());
+            throw e;
+        }
+        return job;
+    }
+    
+    @Override
+    public ExportJob getJob(String jobId) {
+        return jobs.get(jobId);
+    }
+    
+    @Override
+    public boolean deleteJob(String jobId) {
+        ExportJob job = jobs.remove(jobId);
+        if (job == null) {
+            return false;
+        }
+        deleteFile(job);
+        return true;
+    }
+    
+    @Override
+    @Scheduled(fixedDelayString = "${report.export.job.cleanup-interval-ms:60000}")
+    public void cleanupExpiredJobs() {
+        LocalDateTime expireBefore = LocalDateTime.now().minusMinutes(ttlMinutes);
+        Iterator<ExportJob> iterator = jobs.values().iterator();
+        while (iterator.hasNext()) {
+            ExportJob job = iterator.next();
+            LocalDateTime finishedTime = job.getFinishedTime();
+            if (finishedTime != null && finishedTime.isBefore(expireBefore)) {
+                iterator.remove();
+                deleteFile(job);
+                log.info("导出任务已过期并清理: {}", job.getJobId());
+            }
+        }
+    }
+    
+    /**
+     * 应用关闭时删除所有结果文件
+     */
+    @PreDestroy
+    public void destroy() {
+        jobs.values().forEach(this::deleteFile);
+        jobs.clear();
+    }
+    
+    /**
+     * 执行导出任务：渲染结果直接写入本地文件，不在堆内保留字节数组
+     */
+    private void runJob(ExportJob job) {
+        job.setStatus(ExportJob.Status.RUNNING);
+        try {
+            Path dir = Paths.get(spoolDir);
+            Files.createDirectories(dir);
+            Path file = Files.createTempFile(dir, job.getJobId() + "-", "." + ExportStrategyRegistry.normalize(job.getFormat()));
+            job.setFile(file);
+            
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+                if (job.getPage() != null) {
+                    reportService.exportReport(job.getFormat(), job.getIssueType(), job.getPage(), job.getPageSize(),
+                            out, job.getProgress());
+                } else {
+                    reportService.exportAll(job.getFormat(), job.getIssueType(), out, job.getProgress());
+                }
+            }
+            
+            job.setFileSize(Files.size(file));
+            job.setStatus(ExportJob.Status.COMPLETED);
+            log.info("导出任务完成: {}，文件大小 {} 字节", job.getJobId(), job.getFileSize());
+        } catch (Exception e) {
+            log.error("导出任务失败: {}", job.getJobId(), e);
+            deleteFile(job);
+            job.setErrorMessage(e.getMessage());
+            job.setStatus(ExportJob.Status.FAILED);
+        } finally {
+            job.setFinishedTime(LocalDateTime.now());
+            // 任务在执行期间被删除时，结果文件已无人引用
+            if (!jobs.containsKey(job.getJobId())) {
+                deleteFile(job);
+            }
+        }
+    }
+    
+    private void deleteFile(ExportJob job) {
+        Path file = job.getFile();
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("删除导出文件失败: {}", file, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.asthenia0412.multipleformatreportexport.service;
+
+import io.github.asthenia0412.multipleformatreportexport.entity.FormatInfo;
+import io.github.asthenia0412.multipleformatreportexport.mapper.FormatInfoMapper;
+import io.github.asthenia0412.multipleformatreportexport.util.ExportStrategyRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 格式信息内存快照
+ * format_info表几乎不变，启动时整体加载为不可变快照，之后定时或手动刷新；
+ * 导出热路径读取快照，不再访问数据库。刷新失败时保留上一次的快照
+ */
+@Slf4j
+@Component
+public class FormatInfoCache {
+    
+    @Autowired
+    private FormatInfoMapper formatInfoMapper;
+    
+    /**
+     * 当前快照，从未成功加载时为null
+     */
+    private volatile Snapshot snapshot;
+    
+    @PostConstruct
+    public void init() {
+        reload();
+    }
+    
+    /**
+     * 定时刷新快照
+     */
+    @Scheduled(initialDelayString = "${report.format-info.refresh-interval-ms:300000}",
+               fixedDelayString = "${report.format-info.refresh-interval-ms:300000}")
+    public void refresh() {
+        reload();
+    }
+    
+    /**
+     * 从数据库重新加载快照
+     * @return 是否加载成功
+     */
+    public boolean reload() {
+        try {
+            List<FormatInfo> formats = formatInfoMapper.selectAll();
+            snapshot = new Snapshot(formats);
+            log.info("格式信息快照已加载，共{}种格式", formats.size());
+            return true;
+        } catch (Exception e) {
+            log.warn("加载格式信息失败，继续使用{}", snapshot != null ? "上一次的快照" : "默认格式信息", e);
+            return false;
+        }
+    }
+    
+    /**
+     * 按格式名称查询（不区分大小写）
+     * @return 格式信息，快照中不存在时返回null
+     */
+    public FormatInfo get(String format) {
+        Snapshot current = snapshot;
+        return current != null && format != null ? current.formats.get(ExportStrategyRegistry.normalize(format)) : null;
+    }
+    
+    /**
+     * 支持的格式名称列表
+     * @return 格式名称，从未成功加载时返回null
+     */
+    public String[] getSupportedFormats() {
+        Snapshot current = snapshot;
+        return current != null ? current.supportedFormats.clone() : null;
+    }
+    
+    /**
+     * 快照加载时间，从未成功加载时返回null
+     */
+    public LocalDateTime getLoadedTime() {
+        Snapshot current = snapshot;
+        return current != null ? current.loadedTime : null;
+    }
+    
+    /**
+     * 不可变快照
+     */
+    private static final class Snapshot {
+        private final Map<String, FormatInfo> formats;
+        private final String[] supportedFormats;
+        private final LocalDateTime loadedTime = LocalDateTime.now();
+        
+        private Snapshot(List<FormatInfo> formatList) {
+            Map<String, FormatInfo> map = new LinkedHashMap<>();
+            for (FormatInfo formatInfo : formatList) {
+                map.put(ExportStrategyRegistry.normalize(formatInfo.getFormatName()), formatInfo);
+            }
+            this.formats = Collections.unmodifiableMap(map);
+            this.supportedFormats = formatList.stream()
+                    .filter(FormatInfo::isSupported)
+                    .map(FormatInfo::getFormatName)
+                    .toArray(String[]::new);
+        }
+    }
+}
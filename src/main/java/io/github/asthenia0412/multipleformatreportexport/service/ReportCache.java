@@ -0,0 +1,96 @@
+package io.github.asthenia0412.multipleformatreportexport.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.github.asthenia0412.multipleformatreportexport.entity.DataVersion;
+import io.github.asthenia0412.multipleformatreportexport.util.ExportStrategyRegistry;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 已渲染报告缓存
+ * 以 (格式, 问题类型, 页码, 页大小, 数据版本) 为键，按报告总字节数而不是条目数限制容量，
+ * 少量超大PDF也不会撑爆堆内存；淘汰策略为Caffeine的W-TinyLFU
+ */
+@Slf4j
+@Component
+public class ReportCache {
+
+    private final boolean enabled;
+    private final long maxBytes;
+    private final AsyncCache<Key, byte[]> cache;
+
+    @Autowired
+    public ReportCache(@Value("${report.export.cache.enabled:true}") boolean enabled,
+                       @Value("${report.export.cache.max-bytes:268435456}") long maxBytes,
+                       @Value("${report.export.cache.expire-after-write-minutes:30}") long expireMinutes) {
+        this.enabled = enabled;
+        this.maxBytes = maxBytes;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Key key, byte[] bytes) -> bytes.length)
+                .expireAfterWrite(Duration.ofMinutes(expireMinutes))
+                .recordStats()
+                .buildAsync();
+        log.info("报告缓存: enabled={}, maxBytes={}", enabled, maxBytes);
+    }
+
+    /**
+     * 获取缓存的报告，不存在时调用renderer渲染并缓存
+     * 相同键的并发请求共享同一次渲染；渲染失败的结果不会被缓存
+     * @param version 数据版本查询，只在缓存启用时调用
+     * @param renderer 渲染函数
+     * @return 报告字节数组
+     */
+    public CompletableFuture<byte[]> get(String format, String issueType, int page, int pageSize,
+                                         Supplier<DataVersion> version, Supplier<CompletableFuture<byte[]>> renderer) {
+        if (!enabled) {
+            return renderer.get();
+        }
+        Key key = new Key(ExportStrategyRegistry.normalize(format), issueType, page, pageSize, version.get());
+        return cache.get(key, (k, executor) -> renderer.get());
+    }
+
+    /**
+     * 缓存命中统计
+     */
+    public Map<String, Object> getStatistics() {
+        CacheStats stats = cache.synchronous().stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", enabled);
+        result.put("entries", cache.synchronous().estimatedSize());
+        result.put("weightedBytes", cache.synchronous().policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L));
+        result.put("maxBytes", maxBytes);
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        result.put("evictionBytes", stats.evictionWeight());
+        return result;
+    }
+
+    /**
+     * 缓存键
+     */
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static final class Key {
+        private final String format;
+        private final String issueType;
+        private final int page;
+        private final int pageSize;
+        private final DataVersion version;
+    }
+}
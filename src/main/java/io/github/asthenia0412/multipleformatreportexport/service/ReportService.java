@@ -2,8 +2,16 @@ package io.github.asthenia0412.multipleformatreportexport.service;
 
 import io.github.asthenia0412.multipleformatreportexport.entity.CodeAnalysis;
 import io.github.asthenia0412.multipleformatreportexport.entity.FormatInfo;
+import io.github.asthenia0412.multipleformatreportexport.entity.KeysetPage;
+import io.github.asthenia0412.multipleformatreportexport.exception.InvalidExportRequestException;
+import io.github.asthenia0412.multipleformatreportexport.exception.NoExportDataException;
+import io.github.asthenia0412.multipleformatreportexport.util.ExportProgress;
+import io.github.asthenia0412.multipleformatreportexport.util.generator.ReportStatistics;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 public interface ReportService {
@@ -17,6 +25,92 @@ public interface ReportService {
      */
     CompletableFuture<byte[]> exportReport(String format, String issueType, int page, int pageSize);
     
+    /**
+     * 导出指定数据（如游标分页查询到的一页数据）
+     * @param format 导出格式
+     * @param dataList 待导出数据
+     * @return 报告字节数组
+     */
+    CompletableFuture<byte[]> exportReport(String format, List<CodeAnalysis> dataList);
+    
+    /**
+     * 校验导出参数并查询待导出数据
+     * 流式导出在开始写出响应前调用，参数错误或没有数据时仍能返回正确的状态码
+     * @param format 导出格式
+     * @param issueType 问题类型
+     * @param page 页码
+     * @param pageSize 页大小
+     * @return 待导出数据，不为空
+     * @throws InvalidExportRequestException 参数错误
+     * @throws NoExportDataException 没有可导出的数据
+     */
+    List<CodeAnalysis> loadExportData(String format, String issueType, int page, int pageSize);
+    
+    /**
+     * 流式导出已查询的数据，直接写入输出流
+     * @param format 导出格式
+     * @param dataList 待导出数据
+     * @param out 目标输出流，由调用方负责关闭
+     */
+    void exportReport(String format, List<CodeAnalysis> dataList, OutputStream out) throws IOException;
+    
+    /**
+     * 流式导出报告，直接写入输出流
+     * @param format 导出格式
+     * @param issueType 问题类型
+     * @param page 页码
+     * @param pageSize 页大小
+     * @param out 目标输出流，由调用方负责关闭
+     */
+    void exportReport(String format, String issueType, int page, int pageSize, OutputStream out) throws IOException;
+    
+    /**
+     * 流式导出报告，并记录渲染进度
+     * @param progress 进度记录
+     */
+    void exportReport(String format, String issueType, int page, int pageSize, OutputStream out,
+                      ExportProgress progress) throws IOException;
+    
+    /**
+     * 多格式打包导出：数据只查询一次，统计信息只计算一次，各格式在各自的线程池中并发渲染
+     * @param formats 导出格式（重复的格式只导出一次）
+     * @param issueType 问题类型
+     * @param page 页码
+     * @param pageSize 页大小
+     * @return 格式 -> 渲染结果，按请求顺序排列
+     */
+    Map<String, CompletableFuture<byte[]>> exportBundle(List<String> formats, String issueType, int page, int pageSize);
+    
+    /**
+     * 将打包导出的结果按渲染完成的先后写入ZIP，每个格式一个文件
+     * @param artifacts exportBundle的返回值
+     * @param out 目标输出流，由调用方负责关闭
+     */
+    void writeBundle(Map<String, CompletableFuture<byte[]>> artifacts, OutputStream out) throws IOException;
+    
+    /**
+     * 全量导出前的校验，在开始写出响应或提交导出任务前调用，以便返回正确的状态码
+     * @param format 导出格式
+     * @param issueType 问题类型，为空时导出全部
+     * @throws InvalidExportRequestException 格式不支持，或xls超出全量导出的行数上限
+     * @throws NoExportDataException 没有可导出的数据
+     */
+    void checkExportAll(String format, String issueType);
+    
+    /**
+     * 通过数据库游标导出全部数据，内存占用与数据量无关
+     * @param format 导出格式
+     * @param issueType 问题类型，为空时导出全部
+     * @param out 目标输出流，由调用方负责关闭
+     */
+    void exportAll(String format, String issueType, OutputStream out) throws IOException;
+    
+    /**
+     * 通过数据库游标导出全部数据，并记录渲染进度
+     * @param progress 进度记录
+     */
+    void exportAll(String format, String issueType, OutputStream out, ExportProgress progress) throws IOException;
+    
     /**
      * 获取分页数据
      * @param issueType 问题类型
@@ -26,12 +120,35 @@ public interface ReportService {
      */
     List<CodeAnalysis> getPagedData(String issueType, int page, int pageSize);
     
+    /**
+     * 游标（keyset）分页获取数据，深分页代价与页码无关
+     * @param issueType 问题类型
+     * @param pageToken 上一页返回的续传令牌，第一页传空
+     * @param pageSize 页大小
+     * @return 当前页数据及下一页令牌
+     */
+    KeysetPage<CodeAnalysis> getKeysetData(String issueType, String pageToken, int pageSize);
+    
     /**
      * 获取总记录数
      * @return 总记录数
      */
     int getTotalCount();
     
+    /**
+     * 获取指定问题类型的记录数
+     * @param issueType 问题类型，为空时统计全部
+     * @return 记录数
+     */
+    int getTotalCount(String issueType);
+    
+    /**
+     * 数据库端聚合全量统计信息（执行摘要 + 问题类型分布），不加载明细数据
+     * @param issueType 问题类型，为空时统计全部
+     * @return 统计信息
+     */
+    ReportStatistics getStatistics(String issueType);
+    
     /**
      * 获取支持的导出格式
      * @return 支持的格式列表
@@ -44,4 +161,10 @@ public interface ReportService {
      * @return 格式信息
      */
     FormatInfo getFormatInfo(String format);
+    
+    /**
+     * 从数据库重新加载格式信息快照
+     * @return 是否加载成功
+     */
+    boolean reloadFormatInfo();
 }
\ No newline at end of file
@@ -1,17 +1,45 @@
 package io.github.asthenia0412.multipleformatreportexport.service;
 
+import io.github.asthenia0412.multipleformatreportexport.config.ExportCompressionProperties;
 import io.github.asthenia0412.multipleformatreportexport.entity.CodeAnalysis;
 import io.github.asthenia0412.multipleformatreportexport.entity.FormatInfo;
+import io.github.asthenia0412.multipleformatreportexport.entity.IssueTypeCount;
+import io.github.asthenia0412.multipleformatreportexport.entity.KeysetPage;
+import io.github.asthenia0412.multipleformatreportexport.entity.ReportSummary;
+import io.github.asthenia0412.multipleformatreportexport.exception.InvalidExportRequestException;
+import io.github.asthenia0412.multipleformatreportexport.exception.NoExportDataException;
 import io.github.asthenia0412.multipleformatreportexport.mapper.CodeAnalysisMapper;
-import io.github.asthenia0412.multipleformatreportexport.mapper.FormatInfoMapper;
+import io.github.asthenia0412.multipleformatreportexport.util.ExportExecutors;
+import io.github.asthenia0412.multipleformatreportexport.util.ExportProgress;
 import io.github.asthenia0412.multipleformatreportexport.util.ExportStrategy;
-import io.github.asthenia0412.multipleformatreportexport.util.ExportStrategyFactory;
+import io.github.asthenia0412.multipleformatreportexport.util.ExportStrategyRegistry;
+import io.github.asthenia0412.multipleformatreportexport.util.KeysetPageToken;
+import io.github.asthenia0412.multipleformatreportexport.util.generator.ChunkedRenderer;
+import io.github.asthenia0412.multipleformatreportexport.util.generator.ReportStatistics;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 @Service
 public class ReportServiceImpl implements ReportService {
@@ -20,29 +48,258 @@ public class ReportServiceImpl implements ReportService {
     private CodeAnalysisMapper codeAnalysisMapper;
     
     @Autowired
-    private FormatInfoMapper formatInfoMapper;
+    private FormatInfoCache formatInfoCache;
+    
+    @Autowired
+    private ExportExecutors exportExecutors;
+
+    @Autowired
+    private ChunkedRenderer chunkedRenderer;
+    
+    @Autowired
+    private ReportCache reportCache;
+    
+    @Autowired
+    private ExportStrategyRegistry strategyRegistry;
+    
+    @Autowired
+    private ExportCompressionProperties compressionProperties;
+    
+    /**
+     * xls全量导出的行数上限：HSSF没有流式模式，整个工作簿在堆内生成
+     */
+    @Value("${report.export.xls.max-rows:100000}")
+    private long xlsMaxRows;
 
     @Override
     public CompletableFuture<byte[]> exportReport(String format, String issueType, int page, int pageSize) {
+        validateExportParams(format, page, pageSize);
+
+        // 数据版本不变时直接复用已渲染的报告，跳过查询和渲染；缓存关闭时不查询数据版本
+        String type = StringUtils.hasText(issueType) ? issueType : null;
+        return reportCache.get(format, type, page, pageSize, () -> codeAnalysisMapper.selectDataVersion(type), () -> {
+            List<CodeAnalysis> dataList = loadExportData(format, issueType, page, pageSize);
+
+            // 从注册表取出该格式的单例策略
+            ExportStrategy exportStrategy = strategyRegistry.getStrategy(format);
+
+            // 统计信息只计算一次，在该格式独立的有界线程池中异步渲染，队列满时抛出RejectedExecutionException
+            return exportStrategy.export(ReportStatistics.of(dataList, chunkedRenderer), dataList, exportExecutors.getExecutor(format));
+        });
+    }
+
+    @Override
+    public CompletableFuture<byte[]> exportReport(String format, List<CodeAnalysis> dataList) {
+        // 检查格式是否支持
+        if (!strategyRegistry.isFormatSupported(format)) {
+            throw new InvalidExportRequestException("不支持的导出格式: " + format);
+        }
+        if (dataList.isEmpty()) {
+            throw new NoExportDataException();
+        }
+
+        ExportStrategy exportStrategy = strategyRegistry.getStrategy(format);
+        return exportStrategy.export(ReportStatistics.of(dataList, chunkedRenderer), dataList, exportExecutors.getExecutor(format));
+    }
+
+    @Override
+    public Map<String, CompletableFuture<byte[]>> exportBundle(List<String> formats, String issueType, int page, int pageSize) {
+        if (formats == null || formats.isEmpty()) {
+            throw new InvalidExportRequestException("导出格式不能为空");
+        }
+        Map<String, CompletableFuture<byte[]>> artifacts = new LinkedHashMap<>();
+        for (String format : formats) {
+            validateExportParams(format, page, pageSize);
+            artifacts.put(ExportStrategyRegistry.normalize(format), null);
+        }
+
+        // 只查询一次，所有格式共享同一份数据和统计信息
+        List<CodeAnalysis> dataList = getPagedData(issueType, page, pageSize);
+        if (dataList.isEmpty()) {
+            throw new NoExportDataException();
+        }
+        ReportStatistics statistics = ReportStatistics.of(dataList, chunkedRenderer);
+
+        try {
+            for (String format : artifacts.keySet()) {
+                ExportStrategy exportStrategy = strategyRegistry.getStrategy(format);
+                artifacts.put(format, exportStrategy.export(statistics, dataList, exportExecutors.getExecutor(format)));
+            }
+        } catch (RuntimeException e) {
+            // 某个格式的线程池已满时取消已提交的格式，由调用方整体重试
+            cancelAll(artifacts);
+            throw e;
+        }
+        return artifacts;
+    }
+
+    @Override
+    public void writeBundle(Map<String, CompletableFuture<byte[]>> artifacts, OutputStream out) throws IOException {
+        // 先完成的格式先写出
+        BlockingQueue<String> completed = new LinkedBlockingQueue<>();
+        artifacts.forEach((format, future) -> future.whenComplete((bytes, error) -> completed.add(format)));
+
+        ZipOutputStream zip = new ZipOutputStream(out);
+        try {
+            for (int i = 0; i < artifacts.size(); i++) {
+                String format = completed.take();
+                byte[] bytes;
+                try {
+                    bytes = artifacts.get(format).join();
+                } catch (CompletionException e) {
+                    throw new IOException("格式 " + format + " 导出失败", e.getCause());
+                }
+                writeBundleEntry(zip, format, bytes);
+            }
+            zip.finish();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("打包导出被中断");
+        } finally {
+            cancelAll(artifacts);
+        }
+    }
+
+    /**
+     * 写入一个ZIP条目，本身已压缩的格式（xlsx、docx等）直接存储，不再压缩
+     */
+    private void writeBundleEntry(ZipOutputStream zip, String format, byte[] bytes) throws IOException {
+        ZipEntry entry = new ZipEntry("report." + strategyRegistry.getStrategy(format).getFileExtension());
+        if (compressionProperties.getSkipFormats().contains(format)) {
+            CRC32 crc = new CRC32();
+            crc.update(bytes);
+            entry.setMethod(ZipEntry.STORED);
+            entry.setSize(bytes.length);
+            entry.setCrc(crc.getValue());
+        }
+        zip.putNextEntry(entry);
+        zip.write(bytes);
+        zip.closeEntry();
+    }
+
+    private static void cancelAll(Map<String, CompletableFuture<byte[]>> artifacts) {
+        for (CompletableFuture<byte[]> future : artifacts.values()) {
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    @Override
+    public void exportReport(String format, String issueType, int page, int pageSize, OutputStream out) throws IOException {
+        exportReport(format, issueType, page, pageSize, out, new ExportProgress());
+    }
+
+    @Override
+    public void exportReport(String format, List<CodeAnalysis> dataList, OutputStream out) throws IOException {
+        ExportStrategy exportStrategy = strategyRegistry.getStrategy(format);
+        exportStrategy.export(ReportStatistics.of(dataList, chunkedRenderer), dataList, out);
+    }
+
+    @Override
+    public void exportReport(String format, String issueType, int page, int pageSize, OutputStream out,
+                             ExportProgress progress) throws IOException {
+        List<CodeAnalysis> dataList = loadExportData(format, issueType, page, pageSize);
+        progress.setTotalRows(dataList.size());
+
+        // 流式导出：生成器直接写入输出流，不经过中间字节数组
+        ExportStrategy exportStrategy = strategyRegistry.getStrategy(format);
+        exportStrategy.export(ReportStatistics.of(dataList, chunkedRenderer), progress.track(dataList), out);
+    }
+
+    @Override
+    public void checkExportAll(String format, String issueType) {
+        if (!strategyRegistry.isFormatSupported(format)) {
+            throw new InvalidExportRequestException("不支持的导出格式: " + format);
+        }
+        long totalRows = getStatistics(issueType).getTotalFiles();
+        if (totalRows == 0) {
+            throw new NoExportDataException();
+        }
+        if (isXls(format)) {
+            checkXlsRowLimit(totalRows);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(String format, String issueType, OutputStream out) throws IOException {
+        exportAll(format, issueType, out, new ExportProgress());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(String format, String issueType, OutputStream out, ExportProgress progress) throws IOException {
+        // 检查格式是否支持
+        if (!strategyRegistry.isFormatSupported(format)) {
+            throw new InvalidExportRequestException("不支持的导出格式: " + format);
+        }
+        ExportStrategy exportStrategy = strategyRegistry.getStrategy(format);
+
+        // 摘要位于明细之前，由数据库聚合预先得到；与游标处于同一只读事务，数据一致
+        ReportStatistics statistics = getStatistics(issueType);
+        if (statistics.getTotalFiles() == 0) {
+            throw new NoExportDataException();
+        }
+        if (isXls(format)) {
+            checkXlsRowLimit(statistics.getTotalFiles());
+        }
+        progress.setTotalRows(statistics.getTotalFiles());
+
+        // 游标只遍历一次，逐行渲染明细
+        try (Cursor<CodeAnalysis> cursor = openCursor(issueType)) {
+            exportStrategy.export(statistics, progress.track(cursor), out);
+        }
+    }
+
+    private static boolean isXls(String format) {
+        return "xls".equals(ExportStrategyRegistry.normalize(format));
+    }
+
+    /**
+     * xls超出行数上限时拒绝导出，避免在堆内构建整个超大工作簿
+     */
+    private void checkXlsRowLimit(long totalRows) {
+        if (totalRows > xlsMaxRows) {
+            throw new InvalidExportRequestException("xls格式全量导出最多支持" + xlsMaxRows + "行，当前共" + totalRows
+                    + "行，请使用xlsx格式");
+        }
+    }
+
+    /**
+     * 打开数据游标，游标依赖当前事务中的SqlSession，必须在事务内使用
+     */
+    private Cursor<CodeAnalysis> openCursor(String issueType) {
+        if (StringUtils.hasText(issueType)) {
+            return codeAnalysisMapper.streamByIssueType(issueType);
+        } else {
+            return codeAnalysisMapper.streamAll();
+        }
+    }
+
+    /**
+     * 校验导出参数
+     */
+    private void validateExportParams(String format, int page, int pageSize) {
         if (page < 1 || pageSize < 1) {
-            throw new IllegalArgumentException("页码和页大小必须为正数");
+            throw new InvalidExportRequestException("页码和页大小必须为正数");
         }
         
         // 检查格式是否支持
-        if (!ExportStrategyFactory.isFormatSupported(format)) {
-            throw new IllegalArgumentException("不支持的导出格式: " + format);
+        if (!strategyRegistry.isFormatSupported(format)) {
+            throw new InvalidExportRequestException("不支持的导出格式: " + format);
         }
+    }
+
+    @Override
+    public List<CodeAnalysis> loadExportData(String format, String issueType, int page, int pageSize) {
+        validateExportParams(format, page, pageSize);
         
         List<CodeAnalysis> dataList = getPagedData(issueType, page, pageSize);
         if (dataList.isEmpty()) {
-            throw new IllegalStateException("没有可导出的数据");
+            throw new NoExportDataException();
         }
-
-        // 使用策略模式创建导出策略
-        ExportStrategy exportStrategy = ExportStrategyFactory.createStrategy(format);
-        
-        // 直接使用策略的导出方法，它已经是异步的
-        return exportStrategy.export(dataList);
+        return dataList;
     }
 
     @Override
@@ -55,71 +312,85 @@ public class ReportServiceImpl implements ReportService {
         }
     }
 
+    @Override
+    public KeysetPage<CodeAnalysis> getKeysetData(String issueType, String pageToken, int pageSize) {
+        if (pageSize < 1) {
+            throw new InvalidExportRequestException("页大小必须为正数");
+        }
+
+        String type = StringUtils.hasText(issueType) ? issueType : null;
+        Long lastId = KeysetPageToken.decode(pageToken, type);
+
+        List<CodeAnalysis> dataList = type != null
+                ? codeAnalysisMapper.findByIssueTypeAfter(type, lastId, pageSize)
+                : codeAnalysisMapper.findAllAfter(lastId, pageSize);
+
+        // 取满一页说明可能还有数据，以本页最后一条记录ID作为下一页起点
+        String nextPageToken = null;
+        if (dataList.size() == pageSize) {
+            nextPageToken = KeysetPageToken.encode(type, dataList.get(dataList.size() - 1).getId());
+        }
+        return new KeysetPage<>(dataList, nextPageToken);
+    }
+
     @Override
     public int getTotalCount() {
         return codeAnalysisMapper.countAll();
     }
 
+    @Override
+    public int getTotalCount(String issueType) {
+        if (StringUtils.hasText(issueType)) {
+            return codeAnalysisMapper.countByIssueType(issueType);
+        }
+        return codeAnalysisMapper.countAll();
+    }
+
+    @Override
+    public ReportStatistics getStatistics(String issueType) {
+        String type = StringUtils.hasText(issueType) ? issueType : null;
+        ReportSummary summary = codeAnalysisMapper.selectSummary(type);
+
+        Map<String, Long> issueTypeStats = new HashMap<>();
+        for (IssueTypeCount count : codeAnalysisMapper.selectIssueTypeStats(type)) {
+            issueTypeStats.put(count.getIssueType(), count.getFileCount());
+        }
+        return ReportStatistics.of(summary.getTotalFiles(), summary.getTotalIssues(),
+                summary.getTotalCodeLines(), issueTypeStats);
+    }
+
     @Override
     public String[] getSupportedFormats() {
-        try {
-            List<FormatInfo> supportedFormats = formatInfoMapper.selectSupportedFormats();
-            return supportedFormats.stream()
-                    .map(FormatInfo::getFormatName)
-                    .toArray(String[]::new);
-        } catch (Exception e) {
-            // 如果数据库查询失败，返回默认支持的格式
-            return new String[]{"xls", "xlsx", "docx", "pdf", "html", "xml"};
+        String[] supportedFormats = formatInfoCache.getSupportedFormats();
+        if (supportedFormats == null) {
+            // 如果格式信息从未成功加载，返回已注册策略支持的格式
+            return strategyRegistry.getFormatNames().toArray(new String[0]);
         }
+        // format_info表中没有登记的已注册格式同样可以导出，一并返回；表中标记为不支持的格式除外
+        Set<String> formats = new LinkedHashSet<>(Arrays.asList(supportedFormats));
+        for (String format : strategyRegistry.getFormatNames()) {
+            if (formatInfoCache.get(format) == null) {
+                formats.add(format);
+            }
+        }
+        return formats.toArray(new String[0]);
     }
 
     @Override
     public FormatInfo getFormatInfo(String format) {
-        try {
-            return formatInfoMapper.selectByFormatName(format);
-        } catch (Exception e) {
-            // 如果数据库查询失败，返回默认格式信息
-            return createDefaultFormatInfo(format);
+        FormatInfo formatInfo = formatInfoCache.get(format);
+        if (formatInfo != null) {
+            return formatInfo;
         }
+        // 快照中没有该格式时，可导出的格式返回默认格式信息
+        if (!strategyRegistry.isFormatSupported(format)) {
+            return null;
+        }
+        return strategyRegistry.getStrategy(format).getDefaultFormatInfo(ExportStrategyRegistry.normalize(format));
     }
-    
-    /**
-     * 创建默认格式信息
-     * @param format 格式名称
-     * @return 格式信息
-     */
-    private FormatInfo createDefaultFormatInfo(String format) {
-        String formatLower = format.toLowerCase();
-        
-        switch (formatLower) {
-            case "xls":
-                return new FormatInfo("xls", "Excel电子表格格式", 
-                    "application/vnd.ms-excel", "xls", true, 
-                    new String[]{"表格数据", "图表支持", "公式计算"});
-            case "xlsx":
-                return new FormatInfo("xlsx", "Excel 2007+格式", 
-                    "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx", true, 
-                    new String[]{"现代Excel格式", "大数据支持", "图表增强"});
-            case "docx":
-                return new FormatInfo("docx", "Word文档格式", 
-                    "application/vnd.openxmlformats-officedocument.wordprocessingml.document", "docx", true, 
-                    new String[]{"文档格式", "样式支持", "图片嵌入"});
-            case "pdf":
-                return new FormatInfo("pdf", "PDF文档格式", 
-                    "application/pdf", "pdf", true, 
-                    new String[]{"跨平台", "打印友好", "安全可靠"});
-            case "html":
-                return new FormatInfo("html", "HTML网页格式", 
-                    "text/html", "html", true, 
-                    new String[]{"网页浏览", "样式丰富", "交互支持"});
-            case "xml":
-                return new FormatInfo("xml", "XML数据格式", 
-                    "application/xml", "xml", true, 
-                    new String[]{"数据交换", "结构化", "标准格式"});
-            default:
-                return new FormatInfo(format, "未知格式", 
-                    "application/octet-stream", format, false, 
-                    new String[]{"未知格式"});
-        }
-    }
-}
\ No newline at end of file
+
+    @Override
+    public boolean reloadFormatInfo() {
+        return formatInfoCache.reload();
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.asthenia0412.multipleformatreportexport.util;
+
+import io.github.asthenia0412.multipleformatreportexport.config.ExportExecutorProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 按导出格式隔离的有界线程池
+ * POI/iText渲染属于CPU与阻塞混合型任务，不能占用ForkJoinPool.commonPool()；
+ * 队列满时抛出RejectedExecutionException，由控制器转换为HTTP 429
+ */
+@Slf4j
+public class ExportExecutors {
+
+    /**
+     * 流式导出线程池名称
+     */
+    public static final String STREAMING = "streaming";
+
+    /**
+     * 异步导出任务线程池名称
+     */
+    public static final String JOBS = "jobs";
+
+    private final ExportExecutorProperties properties;
+    private final Map<String, ThreadPoolExecutor> executors = new ConcurrentHashMap<>();
+
+    public ExportExecutors(ExportExecutorProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * 获取格式对应的线程池，首次使用时创建
+     * @param format 导出格式
+     * @return 线程池
+     */
+    public ExecutorService getExecutor(String format) {
+        String key = ExportStrategyRegistry.normalize(format);
+        return executors.computeIfAbsent(key, k -> createExecutor(k, getPool(k)));
+    }
+
+    /**
+     * 拒绝请求时建议客户端等待的秒数
+     */
+    public int getRetryAfterSeconds() {
+        return properties.getRetryAfterSeconds();
+    }
+
+    /**
+     * 关闭所有线程池
+     */
+    public void shutdown() {
+        executors.values().forEach(ThreadPoolExecutor::shutdown);
+    }
+
+    private ExportExecutorProperties.Pool getPool(String name) {
+        switch (name) {
+            case STREAMING:
+                return properties.getStreaming();
+            case JOBS:
+                return properties.getJobs();
+            default:
+                return properties.getFormats().get(name);
+        }
+    }
+
+    private ThreadPoolExecutor createExecutor(String name, ExportExecutorProperties.Pool pool) {
+        int coreSize = pool != null && pool.getCoreSize() != null ? pool.getCoreSize() : properties.getCoreSize();
+        int maxSize = pool != null && pool.getMaxSize() != null ? pool.getMaxSize() : properties.getMaxSize();
+        int queueCapacity = pool != null && pool.getQueueCapacity() != null ? pool.getQueueCapacity() : properties.getQueueCapacity();
+
+        log.info("创建导出线程池[{}]: core={}, max={}, queue={}", name, coreSize, maxSize, queueCapacity);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                coreSize, Math.max(coreSize, maxSize),
+                properties.getKeepAliveSeconds(), TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                new CustomizableThreadFactory("export-" + name + "-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.asthenia0412.multipleformatreportexport.util;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 导出进度
+ * 渲染线程写入，查询线程读取，通过包装数据源统计已处理的行数
+ */
+public class ExportProgress {
+
+    private volatile long totalRows;
+    private final AtomicLong processedRows = new AtomicLong();
+
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    public void setTotalRows(long totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public long getProcessedRows() {
+        return processedRows.get();
+    }
+
+    /**
+     * 进度百分比（0-100），总行数未知时返回0
+     */
+    public int getPercent() {
+        long total = totalRows;
+        return total > 0 ? (int) Math.min(100, processedRows.get() * 100 / total) : 0;
+    }
+
+    /**
+     * 包装数据源，每遍历一行累加一次已处理行数
+     * @param rows 原始数据源
+     * @return 带进度统计的数据源
+     */
+    public <T> Iterable<T> track(Iterable<T> rows) {
+        return () -> {
+            Iterator<T> iterator = rows.iterator();
+            return new Iterator<T>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public T next() {
+                    T next = iterator.next();
+                    processedRows.incrementAndGet();
+                    return next;
+                }
+            };
+        };
+    }
+}
@@ -1,13 +1,84 @@
 package io.github.asthenia0412.multipleformatreportexport.util;
 
 import io.github.asthenia0412.multipleformatreportexport.entity.CodeAnalysis;
+import io.github.asthenia0412.multipleformatreportexport.entity.FormatInfo;
+import io.github.asthenia0412.multipleformatreportexport.util.generator.ReportStatistics;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
+/**
+ * 导出策略
+ * 实现类为无状态单例，需线程安全；注册为Spring Bean或在
+ * META-INF/services中声明后由ExportStrategyRegistry自动发现
+ */
 public interface ExportStrategy {
 
-    CompletableFuture<byte[]> export(List<CodeAnalysis> dataList);
+    /**
+     * 该策略处理的格式名称（小写），如 xls、xlsx
+     */
+    String[] getFormatKeys();
+
+    /**
+     * 格式信息表中没有该格式时使用的默认格式信息，MIME类型和扩展名取自getMimeType()/getFileExtension()
+     * @param format getFormatKeys()中的某个格式名称
+     */
+    default FormatInfo getDefaultFormatInfo(String format) {
+        return new FormatInfo(format, getDescription(), getMimeType(), getFileExtension(), true, getFeatures());
+    }
+
+    /**
+     * 默认格式信息中的格式描述
+     */
+    default String getDescription() {
+        return getFormatName();
+    }
+
+    /**
+     * 默认格式信息中的格式特性
+     */
+    default String[] getFeatures() {
+        return new String[0];
+    }
+
+    /**
+     * 异步导出，渲染任务在指定线程池中执行
+     * @param dataList 数据列表
+     * @param executor 渲染线程池
+     * @return 报告字节数组
+     */
+    default CompletableFuture<byte[]> export(List<CodeAnalysis> dataList, Executor executor) {
+        return export(ReportStatistics.of(dataList), dataList, executor);
+    }
+
+    /**
+     * 异步导出，统计信息由调用方预先计算
+     * @param statistics 统计信息
+     * @param dataList 数据列表
+     * @param executor 渲染线程池
+     * @return 报告字节数组
+     */
+    CompletableFuture<byte[]> export(ReportStatistics statistics, List<CodeAnalysis> dataList, Executor executor);
+
+    /**
+     * 流式导出：边渲染边写入输出流，不在内存中保留完整报告
+     * @param dataList 数据列表
+     * @param out 目标输出流，由调用方负责关闭
+     */
+    default void export(List<CodeAnalysis> dataList, OutputStream out) throws IOException {
+        export(ReportStatistics.of(dataList), dataList, out);
+    }
+
+    /**
+     * 流式导出：统计信息预先计算，明细数据只遍历一次，可直接消费数据库游标
+     * @param statistics 统计信息
+     * @param rows 数据源
+     * @param out 目标输出流，由调用方负责关闭
+     */
+    void export(ReportStatistics statistics, Iterable<CodeAnalysis> rows, OutputStream out) throws IOException;
 
 
    String getFormatName();
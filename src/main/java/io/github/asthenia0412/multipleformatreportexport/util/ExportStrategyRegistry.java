@@ -0,0 +1,95 @@
+package io.github.asthenia0412.multipleformatreportexport.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * 导出策略注册表
+ * 启动时收集所有ExportStrategy（Spring Bean + META-INF/services中声明的插件），
+ * 按格式名称建立索引；策略为单例，每次导出只做一次Map查找，不再逐次创建策略对象
+ */
+@Slf4j
+@Component
+public class ExportStrategyRegistry {
+
+    private final Map<String, ExportStrategy> strategies;
+    private final List<String> formatNames;
+
+    @Autowired
+    public ExportStrategyRegistry(List<ExportStrategy> beans) {
+        Map<String, ExportStrategy> map = new HashMap<>();
+        for (ExportStrategy strategy : beans) {
+            register(map, strategy);
+        }
+
+        // 通过ServiceLoader发现的插件，格式名称与已注册Bean冲突时以Bean为准
+        for (ExportStrategy strategy : ServiceLoader.load(ExportStrategy.class)) {
+            register(map, strategy);
+        }
+
+        List<String> names = new ArrayList<>(map.keySet());
+        Collections.sort(names);
+        this.strategies = Collections.unmodifiableMap(map);
+        this.formatNames = Collections.unmodifiableList(names);
+        log.info("已注册导出格式: {}", formatNames);
+    }
+
+    private static void register(Map<String, ExportStrategy> map, ExportStrategy strategy) {
+        for (String key : strategy.getFormatKeys()) {
+            ExportStrategy existing = map.putIfAbsent(normalize(key), strategy);
+            if (existing != null && existing != strategy) {
+                log.warn("导出格式 {} 已由 {} 注册，忽略 {}", key,
+                        existing.getClass().getName(), strategy.getClass().getName());
+            }
+        }
+    }
+
+    /**
+     * 格式名称的统一规范化（去除首尾空白、按Locale.ROOT转小写），
+     * 注册表、缓存键、线程池、压缩配置等所有按格式查找的地方都使用该方法
+     */
+    public static String normalize(String format) {
+        return format.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 根据格式获取导出策略
+     * @param format 导出格式
+     * @return 导出策略实例
+     */
+    public ExportStrategy getStrategy(String format) {
+        if (format == null) {
+            throw new IllegalArgumentException("导出格式不能为空");
+        }
+        ExportStrategy strategy = strategies.get(normalize(format));
+        if (strategy == null) {
+            throw new IllegalArgumentException("不支持的导出格式: " + format);
+        }
+        return strategy;
+    }
+
+    /**
+     * 检查格式是否支持
+     * @param format 导出格式
+     * @return 是否支持
+     */
+    public boolean isFormatSupported(String format) {
+        return format != null && strategies.containsKey(normalize(format));
+    }
+
+    /**
+     * 已注册的全部格式名称（按字母排序）
+     */
+    public List<String> getFormatNames() {
+        return formatNames;
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.asthenia0412.multipleformatreportexport.util;
+
+import io.github.asthenia0412.multipleformatreportexport.exception.InvalidExportRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 游标分页续传令牌编解码
+ * 令牌对客户端不透明，内容为 "问题类型:上一页最后一条记录ID" 的URL安全Base64编码
+ */
+public class KeysetPageToken {
+    
+    private static final char SEPARATOR = ':';
+    
+    /**
+     * 生成续传令牌
+     * @param issueType 问题类型（可为空）
+     * @param lastId 当前页最后一条记录ID
+     * @return 续传令牌
+     */
+    public static String encode(String issueType, long lastId) {
+        String raw = (issueType != null ? issueType : "") + SEPARATOR + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * 解析续传令牌
+     * @param token 续传令牌，为空表示从第一页开始
+     * @param issueType 当前请求的问题类型，必须与令牌中的一致
+     * @return 上一页最后一条记录ID，第一页返回null
+     */
+    public static Long decode(String token, String issueType) {
+        if (token == null || token.trim().isEmpty()) {
+            return null;
+        }
+        
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidExportRequestException("无效的分页令牌: " + token);
+        }
+        
+        int index = raw.lastIndexOf(SEPARATOR);
+        if (index < 0) {
+            throw new InvalidExportRequestException("无效的分页令牌: " + token);
+        }
+        
+        String tokenIssueType = raw.substring(0, index);
+        if (!tokenIssueType.equals(issueType != null ? issueType : "")) {
+            throw new InvalidExportRequestException("分页令牌与问题类型不匹配: " + issueType);
+        }
+        
+        try {
+            return Long.parseLong(raw.substring(index + 1));
+        } catch (NumberFormatException e) {
+            throw new InvalidExportRequestException("无效的分页令牌: " + token);
+        }
+    }
+}
@@ -2,82 +2,160 @@ package io.github.asthenia0412.multipleformatreportexport.util;
 
 import io.github.asthenia0412.multipleformatreportexport.entity.CodeAnalysis;
 import io.github.asthenia0412.multipleformatreportexport.util.generator.*;
+
+import java.io.ByteArrayOutputStream;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * 报告导出工具类 - 使用策略模式支持多种格式
+ * 所有渲染任务都提交到调用方指定的线程池，不使用ForkJoinPool.commonPool()
+ * 统计信息由调用方计算一次后传入，生成器不再各自遍历数据做汇总
  */
 public class ReportExportUtil {
 
 
     /**
-     * 导出报告 - 根据格式选择对应的导出策略
+     * 导出XLS（Excel 97-2003）格式报告（只包含明细，没有摘要部分）
      */
-    public static CompletableFuture<byte[]> exportReport(List<CodeAnalysis> dataList, String format) {
-        ExportStrategy strategy = ExportStrategyFactory.createStrategy(format);
-        return strategy.export(dataList);
+    public static CompletableFuture<byte[]> exportXls(List<CodeAnalysis> dataList, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+                    return XLSReportGenerator.generateLegacyXLSReport(dataList);
+                }, executor
+        );
     }
 
     /**
-     * 导出XLS格式报告
+     * 导出XLSX（Excel 2007+）格式报告（只包含明细，没有摘要部分）
      */
-    public static CompletableFuture<byte[]> exportXls(List<CodeAnalysis> dataList) {
+    public static CompletableFuture<byte[]> exportXlsx(List<CodeAnalysis> dataList, XlsxSettings settings, Executor executor) {
         return CompletableFuture.supplyAsync(() -> {
-                    return XLSReportGenerator.generateXLSReport(dataList);
-                }
+                    return XLSReportGenerator.generateXLSReport(dataList, settings);
+                }, executor
         );
     }
 
     /**
      * 导出Word格式报告
      */
-    public static CompletableFuture<byte[]> exportWord(List<CodeAnalysis> dataList) {
+    public static CompletableFuture<byte[]> exportWord(ReportStatistics statistics, List<CodeAnalysis> dataList, Executor executor) {
         return CompletableFuture.supplyAsync(() -> {
             try {
-                return DocReportGenerator.generatorDocReport(dataList);
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                DocReportGenerator.generatorDocReport(statistics, dataList, out);
+                return out.toByteArray();
             } catch (Exception e) {
                 throw new RuntimeException("", e);
             }
 
-        });
+        }, executor);
     }
 
-    public static CompletableFuture<byte[]> exportPdf(List<CodeAnalysis> dataList) {
+    /**
+     * 导出PDF格式报告
+     */
+    public static CompletableFuture<byte[]> exportPdf(ReportStatistics statistics, List<CodeAnalysis> dataList,
+                                                     ChunkedRenderer renderer, PdfStyleCache styles, Executor executor) {
         return CompletableFuture.supplyAsync(() -> {
             try {
-                return PdfReportGenerator.generateReport(dataList);
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                PdfReportGenerator.generateReport(statistics, dataList, renderer, styles, out);
+                return out.toByteArray();
             } catch (Exception e) {
                 throw new RuntimeException("", e);
             }
-        });
+        }, executor);
     }
 
     /**
      * 导出HTML格式报告
      */
-    public static CompletableFuture<byte[]> exportHtml(List<CodeAnalysis> dataList) {
+    public static CompletableFuture<byte[]> exportHtml(ReportStatistics statistics, List<CodeAnalysis> dataList,
+                                                     ChunkedRenderer renderer, Executor executor) {
         return CompletableFuture.supplyAsync(() -> {
             try {
-                return HtmlReportGenerator.generateReport(dataList);
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                HtmlReportGenerator.generateReport(statistics, dataList, renderer, out);
+                return out.toByteArray();
             } catch (Exception e) {
                 throw new RuntimeException("HTML导出失败", e);
             }
-        });
+        }, executor);
     }
 
     /**
      * 导出XML格式报告
      */
-    public static CompletableFuture<byte[]> exportXml(List<CodeAnalysis> dataList) {
+    public static CompletableFuture<byte[]> exportXml(ReportStatistics statistics, List<CodeAnalysis> dataList,
+                                                     ChunkedRenderer renderer, Executor executor) {
         return CompletableFuture.supplyAsync(() -> {
             try {
-                return XmlReportGenerator.generateReport(dataList);
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                XmlReportGenerator.generateReport(statistics, dataList, renderer, out);
+                return out.toByteArray();
             } catch (Exception e) {
                 throw new RuntimeException("XML导出失败", e);
             }
-        });
+        }, executor);
+    }
+
+    /**
+     * 导出JSON格式报告
+     * @param includeSummary 是否包含执行摘要和问题类型统计
+     */
+    public static CompletableFuture<byte[]> exportJson(ReportStatistics statistics, List<CodeAnalysis> dataList, boolean includeSummary, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return JsonReportGenerator.generateReport(statistics, dataList, includeSummary);
+            } catch (Exception e) {
+                throw new RuntimeException("JSON导出失败", e);
+            }
+        }, executor);
+    }
+
+    /**
+     * 导出NDJSON格式报告（只包含明细）
+     */
+    public static CompletableFuture<byte[]> exportNdjson(List<CodeAnalysis> dataList, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return JsonReportGenerator.generateNdjson(dataList);
+            } catch (Exception e) {
+                throw new RuntimeException("NDJSON导出失败", e);
+            }
+        }, executor);
+    }
+
+    /**
+     * 导出Arrow IPC列式格式报告（只包含明细）
+     */
+    public static CompletableFuture<byte[]> exportArrow(List<CodeAnalysis> dataList, ArrowSettings settings, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return ArrowReportGenerator.generateReport(dataList, settings);
+            } catch (Exception e) {
+                throw new RuntimeException("Arrow导出失败", e);
+            }
+        }, executor);
+    }
+
+    /**
+     * 导出CSV/TSV格式报告（只包含明细，不使用统计信息）
+     * @param delimiter 分隔符
+     * @param bom 是否写出UTF-8 BOM
+     * @param renderer 明细渲染器
+     */
+    public static CompletableFuture<byte[]> exportDelimited(List<CodeAnalysis> dataList, char delimiter, boolean bom,
+                                                           ChunkedRenderer renderer, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return CsvReportGenerator.generateReport(dataList, delimiter, bom, renderer);
+            } catch (Exception e) {
+                throw new RuntimeException("CSV导出失败", e);
+            }
+        }, executor);
     }
 
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,100 @@
+package io.github.asthenia0412.multipleformatreportexport.util;
+
+import io.github.asthenia0412.multipleformatreportexport.config.ExportCompressionProperties;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 导出响应的gzip压缩
+ * 按Accept-Encoding协商，按格式选择压缩级别；已压缩的格式（xlsx、docx等）直接跳过。
+ * 只支持gzip：zstd、brotli没有纯Java的压缩实现
+ */
+public class ResponseCompressor {
+
+    /**
+     * 响应使用的内容编码
+     */
+    public static final String GZIP = "gzip";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ExportCompressionProperties properties;
+
+    public ResponseCompressor(ExportCompressionProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * 协商该格式使用的压缩级别
+     * @param acceptEncoding 请求的Accept-Encoding头
+     * @param format 导出格式
+     * @return gzip压缩级别，不压缩时返回0
+     */
+    public int negotiate(String acceptEncoding, String format) {
+        if (!properties.isEnabled() || !acceptsGzip(acceptEncoding)) {
+            return 0;
+        }
+        String key = ExportStrategyRegistry.normalize(format);
+        if (properties.getSkipFormats().contains(key)) {
+            return 0;
+        }
+        // 级别在绑定配置时已校验为1-9
+        return properties.getLevels().getOrDefault(key, properties.getLevel());
+    }
+
+    /**
+     * 已渲染完成的报告是否压缩，小于min-bytes时不值得压缩
+     * @param length 报告字节数
+     * @param level negotiate返回的压缩级别
+     */
+    public boolean shouldCompress(int length, int level) {
+        return level > 0 && length >= properties.getMinBytes();
+    }
+
+    /**
+     * 包装输出流，边渲染边压缩；写完后需调用finish()，关闭与否由调用方决定
+     * @param level negotiate返回的压缩级别（大于0）
+     */
+    public GZIPOutputStream wrap(OutputStream out, int level) throws IOException {
+        return new GZIPOutputStream(out, BUFFER_SIZE) {
+            {
+                def.setLevel(level);
+            }
+        };
+    }
+
+    /**
+     * 解析Accept-Encoding，gzip（或x-gzip、*）的q值大于0时视为接受
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double anyQuality = null;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.split(";");
+            String coding = tokens[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1;
+            for (int i = 1; i < tokens.length; i++) {
+                String param = tokens[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (GZIP.equals(coding) || "x-gzip".equals(coding)) {
+                gzipQuality = quality;
+            } else if ("*".equals(coding)) {
+                anyQuality = quality;
+            }
+        }
+        return gzipQuality != null ? gzipQuality > 0 : anyQuality != null && anyQuality > 0;
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.asthenia0412.multipleformatreportexport.util.generator;
+
+import org.apache.arrow.vector.compression.CompressionUtil;
+
+import java.util.Locale;
+
+/**
+ * Arrow IPC写出参数
+ * 批次越大压缩率越高，导出时占用的内存也越大；实例创建后不再修改
+ */
+public final class ArrowSettings {
+
+    /**
+     * 默认参数：每批65536行，zstd压缩
+     */
+    public static final ArrowSettings DEFAULT = new ArrowSettings(65536, "zstd");
+
+    private final int batchRows;
+    private final CompressionUtil.CodecType codec;
+
+    /**
+     * @param batchRows 每个记录批次的行数
+     * @param compression 列压缩算法：zstd或none
+     */
+    public ArrowSettings(int batchRows, String compression) {
+        if (batchRows < 1) {
+            throw new IllegalArgumentException("批次行数必须大于0: " + batchRows);
+        }
+        this.batchRows = batchRows;
+        this.codec = parseCodec(compression);
+    }
+
+    private static CompressionUtil.CodecType parseCodec(String compression) {
+        switch (compression.trim().toLowerCase(Locale.ROOT)) {
+            case "zstd":
+                return CompressionUtil.CodecType.ZSTD;
+            case "none":
+                return CompressionUtil.CodecType.NO_COMPRESSION;
+            default:
+                throw new IllegalArgumentException("不支持的Arrow压缩算法: " + compression);
+        }
+    }
+
+    public int getBatchRows() {
+        return batchRows;
+    }
+
+    public CompressionUtil.CodecType getCodec() {
+        return codec;
+    }
+
+    @Override
+    public String toString() {
+        return "batchRows=" + batchRows + ", codec=" + codec;
+    }
+}
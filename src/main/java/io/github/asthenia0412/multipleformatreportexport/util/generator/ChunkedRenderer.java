@@ -0,0 +1,177 @@
+package io.github.asthenia0412.multipleformatreportexport.util.generator;
+
+import io.github.asthenia0412.multipleformatreportexport.entity.CodeAnalysis;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * 明细分块并行渲染
+ * 按顺序读取数据源，每满一块提交到ForkJoinPool渲染到该块独立的缓冲区，再按提交顺序拼接写出；
+ * 读取数据源（包括数据库游标）和写出始终在调用线程，只有渲染在池中并行。
+ * 同时在途的块数量有上限，内存占用与总行数无关。未启用或数据不足一块时直接在调用线程顺序渲染。
+ * PDF单独开启后同样使用该线程池，按行区间渲染为独立的PDF片段后合并，见PdfReportGenerator。
+ * 由ParallelRenderConfig按配置创建并注入导出策略，线程安全
+ */
+public final class ChunkedRenderer {
+
+    /**
+     * 单行渲染逻辑，必须无共享可变状态（多个块同时调用）
+     */
+    @FunctionalInterface
+    interface RowWriter {
+        void write(MarkupWriter writer, CodeAnalysis data) throws IOException;
+    }
+
+    /**
+     * 不并行的渲染器，所有行在调用线程中顺序渲染
+     */
+    public static final ChunkedRenderer SEQUENTIAL = new ChunkedRenderer(null, 1, 1, false);
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final int pdfChunkSize;
+    private final boolean pdfEnabled;
+
+    /**
+     * @param renderPool 渲染使用的ForkJoinPool，为null时不并行
+     * @param rowsPerChunk 每块行数
+     * @param pdfRowsPerChunk PDF每个片段的行数，PDF片段之间会换页，因此比文本格式的块大
+     * @param pdfEnabled PDF是否并行渲染；片段之间强制换页，版面与顺序渲染不同
+     */
+    public ChunkedRenderer(ForkJoinPool renderPool, int rowsPerChunk, int pdfRowsPerChunk, boolean pdfEnabled) {
+        if (rowsPerChunk < 1 || pdfRowsPerChunk < 1) {
+            throw new IllegalArgumentException("分块行数必须大于0: " + rowsPerChunk + ", " + pdfRowsPerChunk);
+        }
+        this.pool = renderPool;
+        this.chunkSize = rowsPerChunk;
+        this.pdfChunkSize = pdfRowsPerChunk;
+        this.pdfEnabled = pdfEnabled;
+    }
+
+    /**
+     * 渲染线程池，不并行时为null
+     */
+    ForkJoinPool renderPool() {
+        return pool;
+    }
+
+    /**
+     * PDF片段渲染线程池，不并行或PDF未开启并行时为null
+     */
+    ForkJoinPool pdfRenderPool() {
+        return pdfEnabled ? pool : null;
+    }
+
+    int pdfChunkSize() {
+        return pdfChunkSize;
+    }
+
+    /**
+     * 关闭渲染线程池
+     */
+    public void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * 从数据源中取出下一块非null行，数据源耗尽时返回的块可能不满或为空
+     */
+    static List<CodeAnalysis> nextChunk(Iterator<CodeAnalysis> rows, int size) {
+        List<CodeAnalysis> chunk = new ArrayList<>(size);
+        while (chunk.size() < size && rows.hasNext()) {
+            CodeAnalysis data = rows.next();
+            if (data != null) {
+                chunk.add(data);
+            }
+        }
+        return chunk;
+    }
+
+    /**
+     * 渲染全部明细行并按原顺序写出，跳过null行
+     */
+    void writeRows(Iterable<CodeAnalysis> rows, MarkupWriter out, RowWriter rowWriter) throws IOException {
+        ForkJoinPool renderPool = pool;
+        if (renderPool == null) {
+            for (CodeAnalysis data : rows) {
+                if (data != null) {
+                    rowWriter.write(out, data);
+                }
+            }
+            return;
+        }
+
+        int rowsPerChunk = chunkSize;
+        int maxInFlight = renderPool.getParallelism() * 2;
+        Deque<ForkJoinTask<byte[]>> inFlight = new ArrayDeque<>();
+        List<CodeAnalysis> chunk = new ArrayList<>(rowsPerChunk);
+        try {
+            for (CodeAnalysis data : rows) {
+                if (data == null) continue;
+                chunk.add(data);
+                if (chunk.size() == rowsPerChunk) {
+                    inFlight.addLast(renderPool.submit(renderTask(chunk, rowWriter)));
+                    chunk = new ArrayList<>(rowsPerChunk);
+                    // 在途块过多时先写出最早的块，限制缓冲区占用
+                    while (inFlight.size() >= maxInFlight) {
+                        out.raw(join(inFlight.removeFirst()));
+                    }
+                }
+            }
+
+            if (inFlight.isEmpty()) {
+                // 不足一块，没有并行收益
+                for (CodeAnalysis data : chunk) {
+                    rowWriter.write(out, data);
+                }
+                return;
+            }
+            if (!chunk.isEmpty()) {
+                inFlight.addLast(renderPool.submit(renderTask(chunk, rowWriter)));
+            }
+            while (!inFlight.isEmpty()) {
+                out.raw(join(inFlight.removeFirst()));
+            }
+        } finally {
+            // 出错时取消尚未完成的块
+            for (ForkJoinTask<byte[]> task : inFlight) {
+                task.cancel(false);
+            }
+        }
+    }
+
+    private static ForkJoinTask<byte[]> renderTask(List<CodeAnalysis> chunk, RowWriter rowWriter) {
+        return ForkJoinTask.adapt(() -> {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(chunk.size() * 256);
+            MarkupWriter writer = new MarkupWriter(buffer);
+            try {
+                for (CodeAnalysis data : chunk) {
+                    rowWriter.write(writer, data);
+                }
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return buffer.toByteArray();
+        });
+    }
+
+    private static byte[] join(ForkJoinTask<byte[]> task) throws IOException {
+        try {
+            return task.join();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package io.github.asthenia0412.multipleformatreportexport.util.generator;
+
+import io.github.asthenia0412.multipleformatreportexport.entity.CodeAnalysis;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * CSV/TSV明细生成器
+ * 只输出CodeAnalysis的8列明细，不含摘要和统计；按RFC 4180写出（CRLF换行，
+ * 含分隔符、双引号、回车或换行的字段加双引号，字段内双引号加倍），null字段输出为空
+ */
+public class CsvReportGenerator {
+
+    public static final char CSV_DELIMITER = ',';
+    public static final char TSV_DELIMITER = '\t';
+
+    private static final String[] HEADERS = {
+            "ID", "文件名", "文件路径", "代码行数",
+            "问题数量", "问题类型", "创建时间", "更新时间"
+    };
+
+    // Excel按BOM识别UTF-8编码，否则中文按本地编码解析
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+    private static final byte[] QUOTE = MarkupWriter.utf8("\"");
+    private static final byte[] LINE_END = MarkupWriter.utf8("\r\n");
+    private static final byte[] CSV_SEPARATOR = MarkupWriter.utf8(",");
+    private static final byte[] TSV_SEPARATOR = MarkupWriter.utf8("\t");
+
+    /**
+     * 生成CSV/TSV报告
+     * @param delimiter 分隔符，CSV_DELIMITER或TSV_DELIMITER
+     * @param bom 是否写出UTF-8 BOM
+     * @param renderer 明细渲染器
+     */
+    public static byte[] generateReport(Iterable<CodeAnalysis> rows, char delimiter, boolean bom, ChunkedRenderer renderer) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        generateReport(rows, delimiter, bom, renderer, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * 逐行写出CSV/TSV报告（不关闭输出流），数据源只遍历一次
+     * @param rows 数据源（可以是数据库游标）
+     * @param delimiter 分隔符，CSV_DELIMITER或TSV_DELIMITER
+     * @param bom 是否写出UTF-8 BOM
+     * @param renderer 明细渲染器
+     * @param out 目标输出流
+     */
+    public static void generateReport(Iterable<CodeAnalysis> rows, char delimiter, boolean bom, ChunkedRenderer renderer,
+                                      OutputStream out) throws IOException {
+        MarkupWriter csv = new MarkupWriter(out);
+        byte[] separator = delimiter == TSV_DELIMITER ? TSV_SEPARATOR : CSV_SEPARATOR;
+
+        if (bom) {
+            csv.raw(UTF8_BOM);
+        }
+
+        // 表头
+        for (int i = 0; i < HEADERS.length; i++) {
+            if (i > 0) csv.raw(separator);
+            writeField(csv, HEADERS[i], delimiter);
+        }
+        csv.raw(LINE_END);
+
+        // 明细，数据量大时分块并行渲染
+        renderer.writeRows(rows, csv, (writer, data) -> writeRow(writer, data, delimiter, separator));
+        csv.flush();
+    }
+
+    private static void writeRow(MarkupWriter csv, CodeAnalysis data, char delimiter, byte[] separator) throws IOException {
+        if (data.getId() != null) csv.number(data.getId());
+        csv.raw(separator);
+        writeField(csv, data.getFileName(), delimiter);
+        csv.raw(separator);
+        writeField(csv, data.getFilePath(), delimiter);
+        csv.raw(separator);
+        if (data.getCodeLine() != null) csv.number(data.getCodeLine());
+        csv.raw(separator);
+        if (data.getIssueCount() != null) csv.number(data.getIssueCount());
+        csv.raw(separator);
+        writeField(csv, data.getIssueType(), delimiter);
+        csv.raw(separator);
+        if (data.getCreatedAt() != null) csv.dateTime(data.getCreatedAt());
+        csv.raw(separator);
+        if (data.getUpdatedAt() != null) csv.dateTime(data.getUpdatedAt());
+        csv.raw(LINE_END);
+    }
+
+    /**
+     * 写出文本字段，需要时加双引号并将字段内的双引号加倍
+     */
+    private static void writeField(MarkupWriter csv, String value, char delimiter) throws IOException {
+        if (value == null) return;
+        if (!needsQuoting(value, delimiter)) {
+            csv.text(value);
+            return;
+        }
+
+        csv.raw(QUOTE);
+        int start = 0;
+        int quote;
+        while ((quote = value.indexOf('"', start)) >= 0) {
+            csv.text(value.substring(start, quote + 1)).raw(QUOTE);
+            start = quote + 1;
+        }
+        csv.text(value.substring(start)).raw(QUOTE);
+    }
+
+    private static boolean needsQuoting(String value, char delimiter) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == delimiter || c == '"' || c == '\r' || c == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
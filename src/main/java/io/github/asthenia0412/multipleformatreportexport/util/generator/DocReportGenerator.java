@@ -1,15 +1,19 @@
 package io.github.asthenia0412.multipleformatreportexport.util.generator;
 
 import io.github.asthenia0412.multipleformatreportexport.entity.CodeAnalysis;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.util.IOUtils;
 import org.apache.poi.xwpf.usermodel.*;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
 
 public class DocReportGenerator {
     // 报告配置常量
@@ -27,12 +31,130 @@ public class DocReportGenerator {
     private static final String DEFAULT_FONT_FAMILY = "微软雅黑";
     private static final int DEFAULT_FONT_SIZE = 10;
     private static final int HEADER_FONT_SIZE = 11;
+    private static final int BODY_FONT_SIZE = 12;
+    private static final int SUBTITLE_FONT_SIZE = 14;
     private static final int TITLE_FONT_SIZE = 16;
     private static final String HEADER_BACKGROUND_COLOR = "D3D3D3";
 
+    // 段落样式ID，格式只在styles.xml中定义一次，段落和文字不再逐个设置字体字号
+    private static final String TITLE_STYLE = "ReportTitle";
+    private static final String SUBTITLE_STYLE = "ReportSubtitle";
+    private static final String DATE_STYLE = "ReportDate";
+    private static final String HEADING_STYLE = "ReportHeading";
+    private static final String BODY_STYLE = "ReportBody";
+
+    // 明细表流式写出：XWPF只生成不含明细的文档骨架，写出时在占位段落处逐行生成表格XML
+    private static final String DOCUMENT_PART = "word/document.xml";
+    private static final String STYLES_PART = "word/styles.xml";
+    private static final String DETAIL_TABLE_PLACEHOLDER = "__DETAIL_TABLE__";
+    private static final String DETAIL_TABLE_STYLE = "ReportTable";
+
+    // 样式表：标题、正文等段落样式和明细表的表格样式（字体、边框、表头底色）统一定义，
+    // 段落和单元格只引用样式ID，不再携带格式
+    private static final byte[] STYLES_XML = MarkupWriter.utf8(
+            "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n" +
+            "<w:styles xmlns:w=\"http://schemas.openxmlformats.org/wordprocessingml/2006/main\">" +
+            paragraphStyle(TITLE_STYLE, "Report Title", true, true, TITLE_FONT_SIZE) +
+            paragraphStyle(SUBTITLE_STYLE, "Report Subtitle", true, false, SUBTITLE_FONT_SIZE) +
+            paragraphStyle(DATE_STYLE, "Report Date", true, false, BODY_FONT_SIZE) +
+            paragraphStyle(HEADING_STYLE, "Report Heading", false, true, SUBTITLE_FONT_SIZE) +
+            paragraphStyle(BODY_STYLE, "Report Body", false, false, BODY_FONT_SIZE) +
+            "<w:style w:type=\"table\" w:styleId=\"" + DETAIL_TABLE_STYLE + "\">" +
+            "<w:name w:val=\"Report Table\"/>" +
+            "<w:rPr>" + fonts(DEFAULT_FONT_FAMILY) + size(DEFAULT_FONT_SIZE) + "</w:rPr>" +
+            "<w:tblPr><w:tblBorders>" +
+            "<w:top w:val=\"single\"/><w:left w:val=\"single\"/><w:bottom w:val=\"single\"/>" +
+            "<w:right w:val=\"single\"/><w:insideH w:val=\"single\"/><w:insideV w:val=\"single\"/>" +
+            "</w:tblBorders></w:tblPr>" +
+            "<w:tcPr><w:vAlign w:val=\"center\"/></w:tcPr>" +
+            "<w:tblStylePr w:type=\"firstRow\">" +
+            "<w:pPr><w:jc w:val=\"center\"/></w:pPr>" +
+            "<w:rPr><w:b/>" + size(HEADER_FONT_SIZE) + "</w:rPr>" +
+            "<w:tcPr><w:shd w:val=\"clear\" w:color=\"auto\" w:fill=\"" + HEADER_BACKGROUND_COLOR + "\"/></w:tcPr>" +
+            "</w:tblStylePr>" +
+            "</w:style>" +
+            "</w:styles>");
+
+    // 明细表开始标签和表头行（表头行跨页重复）
+    private static final byte[] DETAIL_TABLE_OPEN;
+    private static final byte[] DETAIL_TABLE_CLOSE = MarkupWriter.utf8("</w:tbl>");
+    private static final byte[] ROW_OPEN = MarkupWriter.utf8("<w:tr>");
+    private static final byte[] ROW_CLOSE = MarkupWriter.utf8("</w:tr>");
+    private static final byte[] CELL_OPEN = MarkupWriter.utf8("<w:tc><w:p><w:r><w:t xml:space=\"preserve\">");
+    private static final byte[] CELL_CLOSE = MarkupWriter.utf8("</w:t></w:r></w:p></w:tc>");
+    private static final byte[] NOT_AVAILABLE = MarkupWriter.utf8("N/A");
+
+    static {
+        StringBuilder table = new StringBuilder();
+        table.append("<w:tbl><w:tblPr><w:tblStyle w:val=\"").append(DETAIL_TABLE_STYLE).append("\"/>");
+        table.append("<w:tblW w:w=\"5000\" w:type=\"pct\"/>");
+        table.append("<w:tblLook w:firstRow=\"1\" w:lastRow=\"0\" w:firstColumn=\"0\" w:lastColumn=\"0\" w:noHBand=\"1\" w:noVBand=\"1\"/>");
+        table.append("</w:tblPr><w:tblGrid>");
+        for (int i = 0; i < HEADERS.length; i++) {
+            table.append("<w:gridCol w:w=\"").append(9000 / HEADERS.length).append("\"/>");
+        }
+        table.append("</w:tblGrid><w:tr><w:trPr><w:tblHeader/></w:trPr>");
+        for (String header : HEADERS) {
+            table.append("<w:tc><w:p><w:r><w:t>").append(header).append("</w:t></w:r></w:p></w:tc>");
+        }
+        table.append("</w:tr>");
+        DETAIL_TABLE_OPEN = MarkupWriter.utf8(table.toString());
+    }
+
+    private static String paragraphStyle(String id, String name, boolean center, boolean bold, int points) {
+        return "<w:style w:type=\"paragraph\" w:customStyle=\"1\" w:styleId=\"" + id + "\">"
+                + "<w:name w:val=\"" + name + "\"/><w:qFormat/>"
+                + (center ? "<w:pPr><w:jc w:val=\"center\"/></w:pPr>" : "")
+                + "<w:rPr>" + fonts(DEFAULT_FONT_FAMILY) + (bold ? "<w:b/>" : "") + size(points) + "</w:rPr>"
+                + "</w:style>";
+    }
+
+    private static String fonts(String family) {
+        return "<w:rFonts w:ascii=\"" + family + "\" w:hAnsi=\"" + family
+                + "\" w:eastAsia=\"" + family + "\" w:cs=\"" + family + "\"/>";
+    }
+
+    private static String size(int points) {
+        return "<w:sz w:val=\"" + points * 2 + "\"/><w:szCs w:val=\"" + points * 2 + "\"/>";
+    }
+
     public static byte[] generatorDocReport(List<CodeAnalysis> dataList) {
-        try (XWPFDocument document = new XWPFDocument();
-             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        generatorDocReport(dataList, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * 将Word报告直接写入输出流（不关闭输出流）
+     * @param dataList 数据列表
+     * @param out 目标输出流
+     */
+    public static void generatorDocReport(List<CodeAnalysis> dataList, OutputStream out) {
+        generatorDocReport(ReportStatistics.of(dataList), dataList, out);
+    }
+
+    /**
+     * 基于预先计算的统计信息和逐行数据源生成Word报告，数据源只遍历一次
+     * 明细表不经过XWPF对象模型，逐行写入ZIP中的document.xml，内存占用与行数无关
+     * @param statistics 统计信息
+     * @param rows 数据源（可以是数据库游标）
+     * @param out 目标输出流
+     */
+    public static void generatorDocReport(ReportStatistics statistics, Iterable<CodeAnalysis> rows, OutputStream out) {
+        try {
+            writePackage(createSkeleton(statistics), rows, out);
+        } catch (IOException e) {
+            throw new RuntimeException("Word导出失败", e);
+        }
+    }
+
+    /**
+     * 用XWPF生成不含明细行的文档骨架（标题、目录、摘要、统计、建议），明细表位置放置占位段落
+     */
+    private static byte[] createSkeleton(ReportStatistics statistics) throws IOException {
+        try (XWPFDocument document = new XWPFDocument()) {
+            // 生成styles.xml部件，写出时替换为预定义样式表
+            document.createStyles();
 
             // 创建报告标题页
             createWordTitlePage(document);
@@ -41,65 +163,120 @@ public class DocReportGenerator {
             createWordTableOfContents(document);
 
             // 创建执行摘要
-            createWordExecutiveSummary(document, dataList);
+            createWordExecutiveSummary(document, statistics);
 
-            // 创建详细报告表格
-            createWordDetailedReport(document, dataList);
+            // 创建详细报告表格占位
+            createWordDetailedReport(document);
 
             // 创建问题统计图表
-            createWordIssueStatistics(document, dataList);
+            createWordIssueStatistics(document, statistics);
 
             // 创建建议和改进措施
             createWordRecommendations(document);
 
-            document.write(out);
-            return out.toByteArray();
-        } catch (IOException e) {
-            throw new RuntimeException("Word导出失败", e);
+            ByteArrayOutputStream skeleton = new ByteArrayOutputStream();
+            document.write(skeleton);
+            return skeleton.toByteArray();
+        }
+    }
+
+    /**
+     * 复制骨架中的各个部件到输出ZIP，替换样式表，并在document.xml的占位处流式写出明细表
+     */
+    private static void writePackage(byte[] skeleton, Iterable<CodeAnalysis> rows, OutputStream out) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out);
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(skeleton))) {
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                zip.putNextEntry(new ZipEntry(entry.getName()));
+                if (DOCUMENT_PART.equals(entry.getName())) {
+                    writeDocumentPart(new String(IOUtils.toByteArray(in), StandardCharsets.UTF_8), rows, zip);
+                } else if (STYLES_PART.equals(entry.getName())) {
+                    zip.write(STYLES_XML);
+                } else {
+                    IOUtils.copy(in, zip);
+                }
+                zip.closeEntry();
+            }
+        }
+        // 只结束ZIP，不关闭调用方的输出流
+        zip.finish();
+    }
+
+    private static void writeDocumentPart(String documentXml, Iterable<CodeAnalysis> rows, OutputStream zip) throws IOException {
+        int marker = documentXml.indexOf(DETAIL_TABLE_PLACEHOLDER);
+        int start = Math.max(documentXml.lastIndexOf("<w:p>", marker), documentXml.lastIndexOf("<w:p ", marker));
+        int end = documentXml.indexOf("</w:p>", marker) + "</w:p>".length();
+
+        MarkupWriter xml = new MarkupWriter(zip);
+        xml.text(documentXml.substring(0, start));
+        xml.raw(DETAIL_TABLE_OPEN);
+        for (CodeAnalysis data : rows) {
+            if (data != null) {
+                writeDetailRow(xml, data);
+            }
         }
+        xml.raw(DETAIL_TABLE_CLOSE);
+        xml.text(documentXml.substring(end));
+        xml.flush();
+    }
+
+    /**
+     * 写出一行明细，单元格格式全部来自表格样式
+     */
+    private static void writeDetailRow(MarkupWriter xml, CodeAnalysis data) throws IOException {
+        xml.raw(ROW_OPEN);
+        xml.raw(CELL_OPEN);
+        if (data.getId() != null) xml.number(data.getId()); else xml.raw(NOT_AVAILABLE);
+        xml.raw(CELL_CLOSE).raw(CELL_OPEN);
+        writeText(xml, data.getFileName());
+        xml.raw(CELL_CLOSE).raw(CELL_OPEN);
+        writeText(xml, data.getFilePath());
+        xml.raw(CELL_CLOSE).raw(CELL_OPEN);
+        xml.number(data.getCodeLine() != null ? data.getCodeLine() : 0);
+        xml.raw(CELL_CLOSE).raw(CELL_OPEN);
+        xml.number(data.getIssueCount() != null ? data.getIssueCount() : 0);
+        xml.raw(CELL_CLOSE).raw(CELL_OPEN);
+        writeText(xml, data.getIssueType());
+        xml.raw(CELL_CLOSE).raw(CELL_OPEN);
+        if (data.getCreatedAt() != null) xml.dateTime(data.getCreatedAt()); else xml.raw(NOT_AVAILABLE);
+        xml.raw(CELL_CLOSE).raw(CELL_OPEN);
+        if (data.getUpdatedAt() != null) xml.dateTime(data.getUpdatedAt()); else xml.raw(NOT_AVAILABLE);
+        xml.raw(CELL_CLOSE);
+        xml.raw(ROW_CLOSE);
+    }
+
+    private static void writeText(MarkupWriter xml, String text) throws IOException {
+        if (text != null) xml.escaped(text); else xml.raw(NOT_AVAILABLE);
     }
 
-    ;
     // ==================== Word相关方法 ====================
 
+    /**
+     * 添加引用指定段落样式的段落
+     */
+    private static void addParagraph(XWPFDocument document, String styleId, String text) {
+        XWPFParagraph paragraph = document.createParagraph();
+        paragraph.setStyle(styleId);
+        paragraph.createRun().setText(text);
+    }
+
     private static void createWordTitlePage(XWPFDocument document) {
         // 创建标题段落
-        XWPFParagraph titlePara = document.createParagraph();
-        titlePara.setAlignment(ParagraphAlignment.CENTER);
-        XWPFRun titleRun = titlePara.createRun();
-        titleRun.setText(REPORT_TITLE);
-        titleRun.setBold(true);
-        titleRun.setFontSize(TITLE_FONT_SIZE);
-        titleRun.setFontFamily(DEFAULT_FONT_FAMILY);
+        addParagraph(document, TITLE_STYLE, REPORT_TITLE);
 
         // 创建副标题
-        XWPFParagraph subtitlePara = document.createParagraph();
-        subtitlePara.setAlignment(ParagraphAlignment.CENTER);
-        XWPFRun subtitleRun = subtitlePara.createRun();
-        subtitleRun.setText(REPORT_SUBTITLE);
-        subtitleRun.setFontSize(14);
-        subtitleRun.setFontFamily(DEFAULT_FONT_FAMILY);
+        addParagraph(document, SUBTITLE_STYLE, REPORT_SUBTITLE);
 
         // 添加生成时间
-        XWPFParagraph datePara = document.createParagraph();
-        datePara.setAlignment(ParagraphAlignment.CENTER);
-        XWPFRun dateRun = datePara.createRun();
-        dateRun.setText("生成时间：" + java.time.LocalDateTime.now().format(DATE_TIME_FORMATTER));
-        dateRun.setFontSize(12);
-        dateRun.setFontFamily(DEFAULT_FONT_FAMILY);
+        addParagraph(document, DATE_STYLE, "生成时间：" + java.time.LocalDateTime.now().format(DATE_TIME_FORMATTER));
 
         // 添加分页符
         document.createParagraph().createRun().addBreak(BreakType.PAGE);
     }
 
     private static void createWordTableOfContents(XWPFDocument document) {
-        XWPFParagraph tocTitle = document.createParagraph();
-        tocTitle.setAlignment(ParagraphAlignment.CENTER);
-        XWPFRun tocTitleRun = tocTitle.createRun();
-        tocTitleRun.setText("目录");
-        tocTitleRun.setBold(true);
-        tocTitleRun.setFontSize(16);
-        tocTitleRun.setFontFamily(DEFAULT_FONT_FAMILY);
+        addParagraph(document, TITLE_STYLE, "目录");
 
         // 添加目录项
         String[] tocItems = {
@@ -110,29 +287,19 @@ public class DocReportGenerator {
         };
 
         for (String item : tocItems) {
-            XWPFParagraph tocItem = document.createParagraph();
-            XWPFRun tocItemRun = tocItem.createRun();
-            tocItemRun.setText(item);
-            tocItemRun.setFontSize(12);
-            tocItemRun.setFontFamily(DEFAULT_FONT_FAMILY);
+            addParagraph(document, BODY_STYLE, item);
         }
 
         document.createParagraph().createRun().addBreak(BreakType.PAGE);
     }
 
-    private static void createWordExecutiveSummary(XWPFDocument document, List<CodeAnalysis> dataList) {
-        XWPFParagraph summaryTitle = document.createParagraph();
-        summaryTitle.setAlignment(ParagraphAlignment.LEFT);
-        XWPFRun summaryTitleRun = summaryTitle.createRun();
-        summaryTitleRun.setText("1. 执行摘要");
-        summaryTitleRun.setBold(true);
-        summaryTitleRun.setFontSize(14);
-        summaryTitleRun.setFontFamily(DEFAULT_FONT_FAMILY);
+    private static void createWordExecutiveSummary(XWPFDocument document, ReportStatistics statistics) {
+        addParagraph(document, HEADING_STYLE, "1. 执行摘要");
 
         // 计算统计信息
-        int totalFiles = dataList.size();
-        int totalIssues = dataList.stream().mapToInt(data -> data.getIssueCount() != null ? data.getIssueCount() : 0).sum();
-        int totalCodeLines = dataList.stream().mapToInt(data -> data.getCodeLine() != null ? data.getCodeLine() : 0).sum();
+        long totalFiles = statistics.getTotalFiles();
+        long totalIssues = statistics.getTotalIssues();
+        long totalCodeLines = statistics.getTotalCodeLines();
 
         // 创建摘要表格
         XWPFTable summaryTable = document.createTable(4, 2);
@@ -142,7 +309,7 @@ public class DocReportGenerator {
                 {"检测文件总数", String.valueOf(totalFiles)},
                 {"发现问题总数", String.valueOf(totalIssues)},
                 {"代码总行数", String.valueOf(totalCodeLines)},
-                {"平均问题密度", String.format("%.2f", totalCodeLines > 0 ? (double) totalIssues / totalCodeLines * 1000 : 0) + " 问题/千行"}
+                {"平均问题密度", String.format("%.2f", statistics.getIssueDensity()) + " 问题/千行"}
         };
 
         for (int i = 0; i < summaryData.length; i++) {
@@ -154,49 +321,20 @@ public class DocReportGenerator {
         document.createParagraph().createRun().addBreak(BreakType.PAGE);
     }
 
-    private static void createWordDetailedReport(XWPFDocument document, List<CodeAnalysis> dataList) {
-        XWPFParagraph detailTitle = document.createParagraph();
-        detailTitle.setAlignment(ParagraphAlignment.LEFT);
-        XWPFRun detailTitleRun = detailTitle.createRun();
-        detailTitleRun.setText("2. 详细检测结果");
-        detailTitleRun.setBold(true);
-        detailTitleRun.setFontSize(14);
-        detailTitleRun.setFontFamily(DEFAULT_FONT_FAMILY);
-
-        // 创建详细报告表格
-        XWPFTable detailTable = document.createTable(dataList.size() + 1, HEADERS.length);
-        detailTable.setWidth("100%");
-
-        // 设置表头
-        createWordHeader(detailTable);
-
-        // 填充数据行
-        for (int i = 0; i < dataList.size(); i++) {
-            CodeAnalysis data = dataList.get(i);
-            if (data != null) {
-                populateWordRow(detailTable.getRow(i + 1), data);
-            }
-        }
+    private static void createWordDetailedReport(XWPFDocument document) {
+        addParagraph(document, HEADING_STYLE, "2. 详细检测结果");
+
+        // 明细表占位段落，写出时替换为流式生成的表格
+        document.createParagraph().createRun().setText(DETAIL_TABLE_PLACEHOLDER);
 
         document.createParagraph().createRun().addBreak(BreakType.PAGE);
     }
 
-    private static void createWordIssueStatistics(XWPFDocument document, List<CodeAnalysis> dataList) {
-        XWPFParagraph statsTitle = document.createParagraph();
-        statsTitle.setAlignment(ParagraphAlignment.LEFT);
-        XWPFRun statsTitleRun = statsTitle.createRun();
-        statsTitleRun.setText("3. 问题统计分析");
-        statsTitleRun.setBold(true);
-        statsTitleRun.setFontSize(14);
-        statsTitleRun.setFontFamily(DEFAULT_FONT_FAMILY);
+    private static void createWordIssueStatistics(XWPFDocument document, ReportStatistics statistics) {
+        addParagraph(document, HEADING_STYLE, "3. 问题统计分析");
 
         // 按问题类型统计
-        java.util.Map<String, Long> issueTypeStats = dataList.stream()
-                .filter(data -> data.getIssueType() != null && !data.getIssueType().isEmpty())
-                .collect(java.util.stream.Collectors.groupingBy(
-                        CodeAnalysis::getIssueType,
-                        java.util.stream.Collectors.counting()
-                ));
+        java.util.Map<String, Long> issueTypeStats = statistics.getIssueTypeStats();
 
         // 创建统计表格
         XWPFTable statsTable = document.createTable(issueTypeStats.size() + 1, 2);
@@ -216,13 +354,7 @@ public class DocReportGenerator {
     }
 
     private static void createWordRecommendations(XWPFDocument document) {
-        XWPFParagraph recTitle = document.createParagraph();
-        recTitle.setAlignment(ParagraphAlignment.LEFT);
-        XWPFRun recTitleRun = recTitle.createRun();
-        recTitleRun.setText("4. 建议和改进措施");
-        recTitleRun.setBold(true);
-        recTitleRun.setFontSize(14);
-        recTitleRun.setFontFamily(DEFAULT_FONT_FAMILY);
+        addParagraph(document, HEADING_STYLE, "4. 建议和改进措施");
 
         String[] recommendations = {
                 "• 定期进行代码质量检测，建立代码质量门禁机制",
@@ -233,67 +365,7 @@ public class DocReportGenerator {
         };
 
         for (String rec : recommendations) {
-            XWPFParagraph recPara = document.createParagraph();
-            XWPFRun recRun = recPara.createRun();
-            recRun.setText(rec);
-            recRun.setFontSize(12);
-            recRun.setFontFamily(DEFAULT_FONT_FAMILY);
+            addParagraph(document, BODY_STYLE, rec);
         }
     }
-
-    private static void createWordHeader(XWPFTable table) {
-        XWPFTableRow headerRow = table.getRow(0);
-        for (int i = 0; i < HEADERS.length; i++) {
-            XWPFTableCell cell = headerRow.getCell(i);
-            if (cell == null) {
-                cell = headerRow.addNewTableCell();
-            }
-            cell.removeParagraph(0);
-            XWPFParagraph paragraph = cell.addParagraph();
-            paragraph.setAlignment(ParagraphAlignment.CENTER);
-            XWPFRun run = paragraph.createRun();
-            run.setText(HEADERS[i]);
-            run.setBold(true);
-            run.setFontSize(HEADER_FONT_SIZE);
-            run.setFontFamily(DEFAULT_FONT_FAMILY);
-            cell.setColor(HEADER_BACKGROUND_COLOR);
-            cell.setVerticalAlignment(XWPFTableCell.XWPFVertAlign.CENTER);
-        }
-    }
-
-    private static void populateWordRow(XWPFTableRow row, CodeAnalysis data) {
-        if (data == null) return;
-
-        addCell(row, 0, String.valueOf(data.getId() != null ? data.getId() : "N/A"));
-        addCell(row, 1, data.getFileName() != null ? data.getFileName() : "N/A");
-        addCell(row, 2, data.getFilePath() != null ? data.getFilePath() : "N/A");
-        addCell(row, 3, String.valueOf(data.getCodeLine() != null ? data.getCodeLine() : 0));
-        addCell(row, 4, String.valueOf(data.getIssueCount() != null ? data.getIssueCount() : 0));
-        addCell(row, 5, data.getIssueType() != null ? data.getIssueType() : "N/A");
-        addCell(row, 6, data.getCreatedAt() != null ?
-                DATE_TIME_FORMATTER.format(data.getCreatedAt()) : "N/A");
-        addCell(row, 7, data.getUpdatedAt() != null ?
-                DATE_TIME_FORMATTER.format(data.getUpdatedAt()) : "N/A");
-    }
-
-    private static void addCell(XWPFTableRow row, int colIndex, String text) {
-        XWPFTableCell cell = row.getCell(colIndex);
-        if (cell == null) {
-            cell = row.addNewTableCell();
-        }
-        cell.removeParagraph(0);
-        XWPFParagraph paragraph = cell.addParagraph();
-        paragraph.setAlignment(ParagraphAlignment.LEFT);
-        XWPFRun run = paragraph.createRun();
-        run.setText(text != null ? text : "");
-        run.setFontSize(DEFAULT_FONT_SIZE);
-        run.setFontFamily(DEFAULT_FONT_FAMILY);
-        cell.setVerticalAlignment(XWPFTableCell.XWPFVertAlign.CENTER);
-    }
-
-
 }
-
-
-
-
@@ -1,10 +1,13 @@
 package io.github.asthenia0412.multipleformatreportexport.util.generator;
 
 import io.github.asthenia0412.multipleformatreportexport.entity.CodeAnalysis;
-import java.time.format.DateTimeFormatter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * HTML报告生成器
@@ -18,8 +21,133 @@ public class HtmlReportGenerator {
             "问题数量", "问题类型", "创建时间", "更新时间"
     };
     
-    private static final DateTimeFormatter DATE_TIME_FORMATTER = 
-            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    // 常量片段：启动时预编码为UTF-8，每次导出直接拷贝字节
+    private static final byte[] HEAD = MarkupWriter.utf8(
+            "<!DOCTYPE html>\n" +
+            "<html lang=\"zh-CN\">\n" +
+            "<head>\n" +
+            "    <meta charset=\"UTF-8\">\n" +
+            "    <meta name=\"viewport\" content=\"width=device-width, initial-scale=1.0\">\n" +
+            "    <title>" + REPORT_TITLE + "</title>\n" +
+            "    <style>\n" +
+            "        body { font-family: 'Microsoft YaHei', Arial, sans-serif; margin: 20px; background-color: #f5f5f5; }\n" +
+            "        .container { max-width: 1200px; margin: 0 auto; background-color: white; padding: 30px; border-radius: 10px; box-shadow: 0 0 20px rgba(0,0,0,0.1); }\n" +
+            "        .header { text-align: center; margin-bottom: 40px; padding: 20px; background: linear-gradient(135deg, #667eea 0%, #764ba2 100%); color: white; border-radius: 10px; }\n" +
+            "        .title { font-size: 28px; font-weight: bold; margin-bottom: 10px; }\n" +
+            "        .subtitle { font-size: 20px; margin-bottom: 15px; opacity: 0.9; }\n" +
+            "        .date { font-size: 16px; opacity: 0.8; }\n" +
+            "        .section { margin: 40px 0; padding: 20px; border-left: 4px solid #667eea; background-color: #fafafa; border-radius: 5px; }\n" +
+            "        .section-title { font-size: 22px; font-weight: bold; color: #333; margin-bottom: 20px; display: flex; align-items: center; }\n" +
+            "        .section-title::before { content: '📊'; margin-right: 10px; }\n" +
+            "        table { width: 100%; border-collapse: collapse; margin: 20px 0; border-radius: 8px; overflow: hidden; box-shadow: 0 4px 6px rgba(0,0,0,0.1); }\n" +
+            "        th, td { border: 1px solid #e0e0e0; padding: 12px; text-align: left; }\n" +
+            "        th { background: linear-gradient(135deg, #667eea 0%, #764ba2 100%); color: white; font-weight: bold; }\n" +
+            "        tr:nth-child(even) { background-color: #f8f9fa; }\n" +
+            "        tr:hover { background-color: #e3f2fd; transition: background-color 0.3s; }\n" +
+            "        .summary-table { width: 60%; margin: 20px auto; }\n" +
+            "        .stats-table { width: 50%; margin: 20px auto; }\n" +
+            "        .recommendations { background: linear-gradient(135deg, #ffecd2 0%, #fcb69f 100%); padding: 25px; border-radius: 10px; margin: 20px 0; }\n" +
+            "        .recommendations ul { margin: 15px 0; }\n" +
+            "        .recommendations li { margin: 10px 0; padding: 8px 0; border-bottom: 1px solid rgba(0,0,0,0.1); }\n" +
+            "        .metric-card { display: inline-block; margin: 10px; padding: 20px; background: white; border-radius: 8px; box-shadow: 0 2px 4px rgba(0,0,0,0.1); text-align: center; min-width: 150px; }\n" +
+            "        .metric-value { font-size: 24px; font-weight: bold; color: #667eea; }\n" +
+            "        .metric-label { font-size: 14px; color: #666; margin-top: 5px; }\n" +
+            "        .toc { background-color: #f8f9fa; padding: 20px; border-radius: 8px; margin: 20px 0; }\n" +
+            "        .toc ul { list-style: none; padding: 0; }\n" +
+            "        .toc li { margin: 8px 0; }\n" +
+            "        .toc a { color: #667eea; text-decoration: none; font-weight: 500; }\n" +
+            "        .toc a:hover { text-decoration: underline; }\n" +
+            "        @media print { body { background-color: white; } .container { box-shadow: none; } }\n" +
+            "    </style>\n" +
+            "</head>\n" +
+            "<body>\n" +
+            "    <div class=\"container\">\n" +
+            "        <div class=\"header\">\n" +
+            "            <div class=\"title\">" + REPORT_TITLE + "</div>\n" +
+            "            <div class=\"subtitle\">" + REPORT_SUBTITLE + "</div>\n" +
+            "            <div class=\"date\">生成时间：");
+    
+    private static final byte[] TOC = MarkupWriter.utf8(
+            "</div>\n" +
+            "        </div>\n" +
+            "        <div class=\"toc\">\n" +
+            "            <h3>📋 目录</h3>\n" +
+            "            <ul>\n" +
+            "                <li><a href=\"#summary\">1. 执行摘要</a></li>\n" +
+            "                <li><a href=\"#details\">2. 详细检测结果</a></li>\n" +
+            "                <li><a href=\"#statistics\">3. 问题统计分析</a></li>\n" +
+            "                <li><a href=\"#recommendations\">4. 建议和改进措施</a></li>\n" +
+            "            </ul>\n" +
+            "        </div>\n" +
+            "        <div id=\"summary\" class=\"section\">\n" +
+            "            <div class=\"section-title\">执行摘要</div>\n" +
+            "            <div style=\"text-align: center; margin: 20px 0;\">\n");
+    
+    private static final byte[] METRIC_OPEN = MarkupWriter.utf8(
+            "                <div class=\"metric-card\">\n" +
+            "                    <div class=\"metric-value\">");
+    private static final byte[] METRIC_LABEL = MarkupWriter.utf8(
+            "</div>\n" +
+            "                    <div class=\"metric-label\">");
+    private static final byte[] METRIC_CLOSE = MarkupWriter.utf8(
+            "</div>\n" +
+            "                </div>\n");
+    
+    private static final byte[] SUMMARY_TABLE_OPEN = MarkupWriter.utf8(
+            "            </div>\n" +
+            "            <table class=\"summary-table\">\n" +
+            "                <tr><th>指标</th><th>数值</th></tr>\n");
+    
+    private static final byte[] DETAILS_OPEN;
+    
+    private static final byte[] STATISTICS_OPEN = MarkupWriter.utf8(
+            "            </table>\n" +
+            "        </div>\n" +
+            "        <div id=\"statistics\" class=\"section\">\n" +
+            "            <div class=\"section-title\">问题统计分析</div>\n" +
+            "            <table class=\"stats-table\">\n" +
+            "                <tr><th>问题类型</th><th>文件数量</th></tr>\n");
+    
+    private static final byte[] TAIL = MarkupWriter.utf8(
+            "            </table>\n" +
+            "        </div>\n" +
+            "        <div id=\"recommendations\" class=\"section\">\n" +
+            "            <div class=\"section-title\">建议和改进措施</div>\n" +
+            "            <div class=\"recommendations\">\n" +
+            "                <ul>\n" +
+            "                    <li>定期进行代码质量检测，建立代码质量门禁机制</li>\n" +
+            "                    <li>对发现的问题进行分类处理，优先解决高严重性问题</li>\n" +
+            "                    <li>建立代码审查流程，提高代码质量意识</li>\n" +
+            "                    <li>使用自动化工具进行持续集成和持续部署</li>\n" +
+            "                    <li>定期进行代码重构，减少技术债务</li>\n" +
+            "                </ul>\n" +
+            "            </div>\n" +
+            "        </div>\n" +
+            "    </div>\n" +
+            "</body>\n" +
+            "</html>");
+    
+    // 表格行片段
+    private static final byte[] ROW_OPEN = MarkupWriter.utf8("                <tr><td>");
+    private static final byte[] CELL_SEPARATOR = MarkupWriter.utf8("</td><td>");
+    private static final byte[] ROW_CLOSE = MarkupWriter.utf8("</td></tr>\n");
+    private static final byte[] NOT_AVAILABLE = MarkupWriter.utf8("N/A");
+    private static final byte[] DENSITY_UNIT = MarkupWriter.utf8(" 问题/千行");
+    
+    static {
+        StringBuilder details = new StringBuilder();
+        details.append("            </table>\n");
+        details.append("        </div>\n");
+        details.append("        <div id=\"details\" class=\"section\">\n");
+        details.append("            <div class=\"section-title\">详细检测结果</div>\n");
+        details.append("            <table>\n");
+        details.append("                <tr>");
+        for (String header : HEADERS) {
+            details.append("<th>").append(header).append("</th>");
+        }
+        details.append("</tr>\n");
+        DETAILS_OPEN = MarkupWriter.utf8(details.toString());
+    }
     
     /**
      * 生成HTML报告
@@ -27,178 +155,87 @@ public class HtmlReportGenerator {
      * @return HTML字节数组
      */
     public static byte[] generateReport(List<CodeAnalysis> dataList) throws Exception {
-        String html = generateHtmlContent(dataList);
-        return html.getBytes("UTF-8");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        generateReport(dataList, out);
+        return out.toByteArray();
     }
     
     /**
-     * 生成HTML内容
+     * 将HTML报告直接写入输出流（不关闭输出流）
+     * @param dataList 数据列表
+     * @param out 目标输出流
      */
-    private static String generateHtmlContent(List<CodeAnalysis> dataList) {
-        StringBuilder html = new StringBuilder();
-        
-        // HTML头部
-        html.append("<!DOCTYPE html>\n");
-        html.append("<html lang=\"zh-CN\">\n");
-        html.append("<head>\n");
-        html.append("    <meta charset=\"UTF-8\">\n");
-        html.append("    <meta name=\"viewport\" content=\"width=device-width, initial-scale=1.0\">\n");
-        html.append("    <title>").append(REPORT_TITLE).append("</title>\n");
-        html.append("    <style>\n");
-        html.append("        body { font-family: 'Microsoft YaHei', Arial, sans-serif; margin: 20px; background-color: #f5f5f5; }\n");
-        html.append("        .container { max-width: 1200px; margin: 0 auto; background-color: white; padding: 30px; border-radius: 10px; box-shadow: 0 0 20px rgba(0,0,0,0.1); }\n");
-        html.append("        .header { text-align: center; margin-bottom: 40px; padding: 20px; background: linear-gradient(135deg, #667eea 0%, #764ba2 100%); color: white; border-radius: 10px; }\n");
-        html.append("        .title { font-size: 28px; font-weight: bold; margin-bottom: 10px; }\n");
-        html.append("        .subtitle { font-size: 20px; margin-bottom: 15px; opacity: 0.9; }\n");
-        html.append("        .date { font-size: 16px; opacity: 0.8; }\n");
-        html.append("        .section { margin: 40px 0; padding: 20px; border-left: 4px solid #667eea; background-color: #fafafa; border-radius: 5px; }\n");
-        html.append("        .section-title { font-size: 22px; font-weight: bold; color: #333; margin-bottom: 20px; display: flex; align-items: center; }\n");
-        html.append("        .section-title::before { content: '📊'; margin-right: 10px; }\n");
-        html.append("        table { width: 100%; border-collapse: collapse; margin: 20px 0; border-radius: 8px; overflow: hidden; box-shadow: 0 4px 6px rgba(0,0,0,0.1); }\n");
-        html.append("        th, td { border: 1px solid #e0e0e0; padding: 12px; text-align: left; }\n");
-        html.append("        th { background: linear-gradient(135deg, #667eea 0%, #764ba2 100%); color: white; font-weight: bold; }\n");
-        html.append("        tr:nth-child(even) { background-color: #f8f9fa; }\n");
-        html.append("        tr:hover { background-color: #e3f2fd; transition: background-color 0.3s; }\n");
-        html.append("        .summary-table { width: 60%; margin: 20px auto; }\n");
-        html.append("        .stats-table { width: 50%; margin: 20px auto; }\n");
-        html.append("        .recommendations { background: linear-gradient(135deg, #ffecd2 0%, #fcb69f 100%); padding: 25px; border-radius: 10px; margin: 20px 0; }\n");
-        html.append("        .recommendations ul { margin: 15px 0; }\n");
-        html.append("        .recommendations li { margin: 10px 0; padding: 8px 0; border-bottom: 1px solid rgba(0,0,0,0.1); }\n");
-        html.append("        .metric-card { display: inline-block; margin: 10px; padding: 20px; background: white; border-radius: 8px; box-shadow: 0 2px 4px rgba(0,0,0,0.1); text-align: center; min-width: 150px; }\n");
-        html.append("        .metric-value { font-size: 24px; font-weight: bold; color: #667eea; }\n");
-        html.append("        .metric-label { font-size: 14px; color: #666; margin-top: 5px; }\n");
-        html.append("        .toc { background-color: #f8f9fa; padding: 20px; border-radius: 8px; margin: 20px 0; }\n");
-        html.append("        .toc ul { list-style: none; padding: 0; }\n");
-        html.append("        .toc li { margin: 8px 0; }\n");
-        html.append("        .toc a { color: #667eea; text-decoration: none; font-weight: 500; }\n");
-        html.append("        .toc a:hover { text-decoration: underline; }\n");
-        html.append("        @media print { body { background-color: white; } .container { box-shadow: none; } }\n");
-        html.append("    </style>\n");
-        html.append("</head>\n");
-        html.append("<body>\n");
-        html.append("    <div class=\"container\">\n");
-        
-        // 报告标题
-        html.append("        <div class=\"header\">\n");
-        html.append("            <div class=\"title\">").append(REPORT_TITLE).append("</div>\n");
-        html.append("            <div class=\"subtitle\">").append(REPORT_SUBTITLE).append("</div>\n");
-        html.append("            <div class=\"date\">生成时间：").append(java.time.LocalDateTime.now().format(DATE_TIME_FORMATTER)).append("</div>\n");
-        html.append("        </div>\n");
+    public static void generateReport(List<CodeAnalysis> dataList, OutputStream out) throws IOException {
+        generateReport(ReportStatistics.of(dataList), dataList, ChunkedRenderer.SEQUENTIAL, out);
+    }
+    
+    /**
+     * 基于预先计算的统计信息和逐行数据源生成HTML报告，数据源只遍历一次
+     * 常量部分直接写出预编码字节，明细逐行编码写出，内存占用与行数无关
+     * @param statistics 统计信息
+     * @param rows 数据源（可以是数据库游标）
+     * @param renderer 明细渲染器
+     * @param out 目标输出流
+     */
+    public static void generateReport(ReportStatistics statistics, Iterable<CodeAnalysis> rows, ChunkedRenderer renderer,
+                                      OutputStream out) throws IOException {
+        MarkupWriter html = new MarkupWriter(out);
         
-        // 目录
-        html.append("        <div class=\"toc\">\n");
-        html.append("            <h3>📋 目录</h3>\n");
-        html.append("            <ul>\n");
-        html.append("                <li><a href=\"#summary\">1. 执行摘要</a></li>\n");
-        html.append("                <li><a href=\"#details\">2. 详细检测结果</a></li>\n");
-        html.append("                <li><a href=\"#statistics\">3. 问题统计分析</a></li>\n");
-        html.append("                <li><a href=\"#recommendations\">4. 建议和改进措施</a></li>\n");
-        html.append("            </ul>\n");
-        html.append("        </div>\n");
+        // 头部、样式、标题
+        html.raw(HEAD).dateTime(LocalDateTime.now()).raw(TOC);
         
         // 执行摘要
-        html.append("        <div id=\"summary\" class=\"section\">\n");
-        html.append("            <div class=\"section-title\">执行摘要</div>\n");
-        
-        int totalFiles = dataList.size();
-        int totalIssues = dataList.stream().mapToInt(data -> data.getIssueCount() != null ? data.getIssueCount() : 0).sum();
-        int totalCodeLines = dataList.stream().mapToInt(data -> data.getCodeLine() != null ? data.getCodeLine() : 0).sum();
-        double issueDensity = totalCodeLines > 0 ? (double) totalIssues / totalCodeLines * 1000 : 0;
-        
-        // 指标卡片
-        html.append("            <div style=\"text-align: center; margin: 20px 0;\">\n");
-        html.append("                <div class=\"metric-card\">\n");
-        html.append("                    <div class=\"metric-value\">").append(totalFiles).append("</div>\n");
-        html.append("                    <div class=\"metric-label\">检测文件总数</div>\n");
-        html.append("                </div>\n");
-        html.append("                <div class=\"metric-card\">\n");
-        html.append("                    <div class=\"metric-value\">").append(totalIssues).append("</div>\n");
-        html.append("                    <div class=\"metric-label\">发现问题总数</div>\n");
-        html.append("                </div>\n");
-        html.append("                <div class=\"metric-card\">\n");
-        html.append("                    <div class=\"metric-value\">").append(totalCodeLines).append("</div>\n");
-        html.append("                    <div class=\"metric-label\">代码总行数</div>\n");
-        html.append("                </div>\n");
-        html.append("                <div class=\"metric-card\">\n");
-        html.append("                    <div class=\"metric-value\">").append(String.format("%.2f", issueDensity)).append("</div>\n");
-        html.append("                    <div class=\"metric-label\">问题/千行</div>\n");
-        html.append("                </div>\n");
-        html.append("            </div>\n");
+        String issueDensity = String.format("%.2f", statistics.getIssueDensity());
+        html.raw(METRIC_OPEN).number(statistics.getTotalFiles()).raw(METRIC_LABEL).text("检测文件总数").raw(METRIC_CLOSE);
+        html.raw(METRIC_OPEN).number(statistics.getTotalIssues()).raw(METRIC_LABEL).text("发现问题总数").raw(METRIC_CLOSE);
+        html.raw(METRIC_OPEN).number(statistics.getTotalCodeLines()).raw(METRIC_LABEL).text("代码总行数").raw(METRIC_CLOSE);
+        html.raw(METRIC_OPEN).text(issueDensity).raw(METRIC_LABEL).text("问题/千行").raw(METRIC_CLOSE);
         
-        html.append("            <table class=\"summary-table\">\n");
-        html.append("                <tr><th>指标</th><th>数值</th></tr>\n");
-        html.append("                <tr><td>检测文件总数</td><td>").append(totalFiles).append("</td></tr>\n");
-        html.append("                <tr><td>发现问题总数</td><td>").append(totalIssues).append("</td></tr>\n");
-        html.append("                <tr><td>代码总行数</td><td>").append(totalCodeLines).append("</td></tr>\n");
-        html.append("                <tr><td>平均问题密度</td><td>").append(String.format("%.2f", issueDensity)).append(" 问题/千行</td></tr>\n");
-        html.append("            </table>\n");
-        html.append("        </div>\n");
+        html.raw(SUMMARY_TABLE_OPEN);
+        html.raw(ROW_OPEN).text("检测文件总数").raw(CELL_SEPARATOR).number(statistics.getTotalFiles()).raw(ROW_CLOSE);
+        html.raw(ROW_OPEN).text("发现问题总数").raw(CELL_SEPARATOR).number(statistics.getTotalIssues()).raw(ROW_CLOSE);
+        html.raw(ROW_OPEN).text("代码总行数").raw(CELL_SEPARATOR).number(statistics.getTotalCodeLines()).raw(ROW_CLOSE);
+        html.raw(ROW_OPEN).text("平均问题密度").raw(CELL_SEPARATOR).text(issueDensity).raw(DENSITY_UNIT).raw(ROW_CLOSE);
         
         // 详细检测结果
-        html.append("        <div id=\"details\" class=\"section\">\n");
-        html.append("            <div class=\"section-title\">详细检测结果</div>\n");
-        html.append("            <table>\n");
-        html.append("                <tr>");
-        for (String header : HEADERS) {
-            html.append("<th>").append(header).append("</th>");
-        }
-        html.append("</tr>\n");
-        
-        for (CodeAnalysis data : dataList) {
-            if (data != null) {
-                html.append("                <tr>");
-                html.append("<td>").append(data.getId() != null ? data.getId() : "N/A").append("</td>");
-                html.append("<td>").append(data.getFileName() != null ? data.getFileName() : "N/A").append("</td>");
-                html.append("<td>").append(data.getFilePath() != null ? data.getFilePath() : "N/A").append("</td>");
-                html.append("<td>").append(data.getCodeLine() != null ? data.getCodeLine() : 0).append("</td>");
-                html.append("<td>").append(data.getIssueCount() != null ? data.getIssueCount() : 0).append("</td>");
-                html.append("<td>").append(data.getIssueType() != null ? data.getIssueType() : "N/A").append("</td>");
-                html.append("<td>").append(data.getCreatedAt() != null ? DATE_TIME_FORMATTER.format(data.getCreatedAt()) : "N/A").append("</td>");
-                html.append("<td>").append(data.getUpdatedAt() != null ? DATE_TIME_FORMATTER.format(data.getUpdatedAt()) : "N/A").append("</td>");
-                html.append("</tr>\n");
-            }
-        }
-        html.append("            </table>\n");
-        html.append("        </div>\n");
+        html.raw(DETAILS_OPEN);
+        renderer.writeRows(rows, html, HtmlReportGenerator::writeRow);
         
         // 问题统计分析
-        html.append("        <div id=\"statistics\" class=\"section\">\n");
-        html.append("            <div class=\"section-title\">问题统计分析</div>\n");
-        
-        Map<String, Long> issueTypeStats = dataList.stream()
-            .filter(data -> data.getIssueType() != null && !data.getIssueType().isEmpty())
-            .collect(Collectors.groupingBy(
-                CodeAnalysis::getIssueType,
-                Collectors.counting()
-            ));
-        
-        html.append("            <table class=\"stats-table\">\n");
-        html.append("                <tr><th>问题类型</th><th>文件数量</th></tr>\n");
-        for (Map.Entry<String, Long> entry : issueTypeStats.entrySet()) {
-            html.append("                <tr><td>").append(entry.getKey()).append("</td><td>").append(entry.getValue()).append("</td></tr>\n");
+        html.raw(STATISTICS_OPEN);
+        for (Map.Entry<String, Long> entry : statistics.getIssueTypeStats().entrySet()) {
+            html.raw(ROW_OPEN).escaped(entry.getKey()).raw(CELL_SEPARATOR).number(entry.getValue()).raw(ROW_CLOSE);
         }
-        html.append("            </table>\n");
-        html.append("        </div>\n");
         
-        // 建议和改进措施
-        html.append("        <div id=\"recommendations\" class=\"section\">\n");
-        html.append("            <div class=\"section-title\">建议和改进措施</div>\n");
-        html.append("            <div class=\"recommendations\">\n");
-        html.append("                <ul>\n");
-        html.append("                    <li>定期进行代码质量检测，建立代码质量门禁机制</li>\n");
-        html.append("                    <li>对发现的问题进行分类处理，优先解决高严重性问题</li>\n");
-        html.append("                    <li>建立代码审查流程，提高代码质量意识</li>\n");
-        html.append("                    <li>使用自动化工具进行持续集成和持续部署</li>\n");
-        html.append("                    <li>定期进行代码重构，减少技术债务</li>\n");
-        html.append("                </ul>\n");
-        html.append("            </div>\n");
-        html.append("        </div>\n");
-        
-        // 容器和HTML尾部
-        html.append("    </div>\n");
-        html.append("</body>\n");
-        html.append("</html>");
-        
-        return html.toString();
+        // 建议和改进措施、HTML尾部
+        html.raw(TAIL);
+        html.flush();
+    }
+    
+    /**
+     * 写出一行明细，文本字段转义，数字和日期直接编码
+     */
+    private static void writeRow(MarkupWriter html, CodeAnalysis data) throws IOException {
+        html.raw(ROW_OPEN);
+        if (data.getId() != null) html.number(data.getId()); else html.raw(NOT_AVAILABLE);
+        html.raw(CELL_SEPARATOR);
+        writeText(html, data.getFileName());
+        html.raw(CELL_SEPARATOR);
+        writeText(html, data.getFilePath());
+        html.raw(CELL_SEPARATOR);
+        html.number(data.getCodeLine() != null ? data.getCodeLine() : 0);
+        html.raw(CELL_SEPARATOR);
+        html.number(data.getIssueCount() != null ? data.getIssueCount() : 0);
+        html.raw(CELL_SEPARATOR);
+        writeText(html, data.getIssueType());
+        html.raw(CELL_SEPARATOR);
+        if (data.getCreatedAt() != null) html.dateTime(data.getCreatedAt()); else html.raw(NOT_AVAILABLE);
+        html.raw(CELL_SEPARATOR);
+        if (data.getUpdatedAt() != null) html.dateTime(data.getUpdatedAt()); else html.raw(NOT_AVAILABLE);
+        html.raw(ROW_CLOSE);
+    }
+    
+    private static void writeText(MarkupWriter html, String text) throws IOException {
+        if (text != null) html.escaped(text); else html.raw(NOT_AVAILABLE);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,127 @@
+package io.github.asthenia0412.multipleformatreportexport.util.generator;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import io.github.asthenia0412.multipleformatreportexport.entity.CodeAnalysis;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+/**
+ * JSON/NDJSON报告生成器
+ * 基于Jackson流式JsonGenerator逐行写出，明细通过共享的ObjectWriter序列化，不构建整棵对象树
+ */
+public class JsonReportGenerator {
+
+    private static final String REPORT_TITLE = "代码质量检测报告";
+    private static final String REPORT_SUBTITLE = "Code Quality Analysis Report";
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    // 日期格式与其他格式一致；每写一行不刷新输出流，输出流由调用方关闭
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule()
+                    .addSerializer(LocalDateTime.class, new LocalDateTimeSerializer(DATE_TIME_FORMATTER)))
+            .disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    // ObjectWriter不可变、线程安全，所有导出共享
+    private static final ObjectWriter ROW_WRITER = MAPPER.writerFor(CodeAnalysis.class);
+
+    /**
+     * 生成JSON报告
+     * @param includeSummary 是否包含执行摘要和问题类型统计
+     */
+    public static byte[] generateReport(ReportStatistics statistics, Iterable<CodeAnalysis> rows, boolean includeSummary) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        generateReport(statistics, rows, includeSummary, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * 逐行写出JSON报告（不关闭输出流），数据源只遍历一次
+     * @param statistics 统计信息
+     * @param rows 数据源（可以是数据库游标）
+     * @param includeSummary 是否包含执行摘要和问题类型统计
+     * @param out 目标输出流
+     */
+    public static void generateReport(ReportStatistics statistics, Iterable<CodeAnalysis> rows, boolean includeSummary,
+                                      OutputStream out) throws IOException {
+        try (JsonGenerator json = MAPPER.getFactory().createGenerator(out)) {
+            json.writeStartObject();
+
+            // 报告头部信息
+            json.writeStringField("title", REPORT_TITLE);
+            json.writeStringField("subtitle", REPORT_SUBTITLE);
+            json.writeStringField("generatedAt", LocalDateTime.now().format(DATE_TIME_FORMATTER));
+
+            if (includeSummary) {
+                // 执行摘要
+                json.writeObjectFieldStart("summary");
+                json.writeNumberField("totalFiles", statistics.getTotalFiles());
+                json.writeNumberField("totalIssues", statistics.getTotalIssues());
+                json.writeNumberField("totalCodeLines", statistics.getTotalCodeLines());
+                json.writeNumberField("averageIssueDensity", Math.round(statistics.getIssueDensity() * 100) / 100.0);
+                json.writeEndObject();
+
+                // 问题类型统计
+                json.writeArrayFieldStart("issueTypeStatistics");
+                for (Map.Entry<String, Long> entry : statistics.getIssueTypeStats().entrySet()) {
+                    json.writeStartObject();
+                    json.writeStringField("type", entry.getKey());
+                    json.writeNumberField("fileCount", entry.getValue());
+                    json.writeEndObject();
+                }
+                json.writeEndArray();
+            }
+
+            // 详细检测结果
+            json.writeArrayFieldStart("files");
+            for (CodeAnalysis data : rows) {
+                if (data != null) {
+                    ROW_WRITER.writeValue(json, data);
+                }
+            }
+            json.writeEndArray();
+
+            json.writeEndObject();
+        }
+    }
+
+    /**
+     * 生成NDJSON报告
+     */
+    public static byte[] generateNdjson(Iterable<CodeAnalysis> rows) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        generateNdjson(rows, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * 逐行写出NDJSON（每行一条明细，不关闭输出流）
+     * 每行都是同一结构的记录，便于按行切分和流式解析，因此不包含摘要和统计
+     * @param rows 数据源（可以是数据库游标）
+     * @param out 目标输出流
+     */
+    public static void generateNdjson(Iterable<CodeAnalysis> rows, OutputStream out) throws IOException {
+        try (JsonGenerator json = MAPPER.getFactory().createGenerator(out)) {
+            // 记录之间只用换行分隔，不使用默认的空格分隔符
+            json.setRootValueSeparator(null);
+            for (CodeAnalysis data : rows) {
+                if (data != null) {
+                    ROW_WRITER.writeValue(json, data);
+                    json.writeRaw('\n');
+                }
+            }
+        }
+    }
+}
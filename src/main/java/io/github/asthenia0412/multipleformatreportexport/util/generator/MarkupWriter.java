@@ -0,0 +1,184 @@
+package io.github.asthenia0412.multipleformatreportexport.util.generator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * 面向HTML/XML/CSV等文本格式的UTF-8输出器
+ * 自带字节缓冲区，常量片段以预编码的byte[]直接拷贝，动态文本逐字符编码并转义，
+ * 数字和日期直接写入缓冲区，逐行输出时不产生中间字符串。非线程安全，每次导出单独创建
+ */
+final class MarkupWriter {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private static final byte[] AMP = utf8("&amp;");
+    private static final byte[] LT = utf8("&lt;");
+    private static final byte[] GT = utf8("&gt;");
+    private static final byte[] QUOT = utf8("&quot;");
+    private static final byte[] APOS = utf8("&#39;");
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+
+    MarkupWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * 将常量文本预编码为UTF-8字节，供生成器缓存为静态片段
+     */
+    static byte[] utf8(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 写出预编码片段
+     */
+    MarkupWriter raw(byte[] fragment) throws IOException {
+        if (fragment.length > buffer.length - position) {
+            drain();
+            if (fragment.length > buffer.length) {
+                out.write(fragment);
+                return this;
+            }
+        }
+        System.arraycopy(fragment, 0, buffer, position, fragment.length);
+        position += fragment.length;
+        return this;
+    }
+
+    /**
+     * 写出可信文本（不转义）
+     */
+    MarkupWriter text(String text) throws IOException {
+        return write(text, false);
+    }
+
+    /**
+     * 写出转义后的文本，单遍扫描，& < > " ' 替换为实体；
+     * XML 1.0 不允许的控制字符（制表、换行、回车以外的 0x00-0x1F）直接丢弃
+     */
+    MarkupWriter escaped(String text) throws IOException {
+        return write(text, true);
+    }
+
+    MarkupWriter number(long value) throws IOException {
+        ensure(20);
+        if (value < 0) {
+            if (value == Long.MIN_VALUE) {
+                return text(Long.toString(value));
+            }
+            buffer[position++] = '-';
+            value = -value;
+        }
+        int start = position;
+        do {
+            buffer[position++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        // 低位在前写入，最后原地反转
+        for (int i = start, j = position - 1; i < j; i++, j--) {
+            byte tmp = buffer[i];
+            buffer[i] = buffer[j];
+            buffer[j] = tmp;
+        }
+        return this;
+    }
+
+    /**
+     * 按 yyyy-MM-dd HH:mm:ss 写出日期时间
+     */
+    MarkupWriter dateTime(LocalDateTime time) throws IOException {
+        ensure(19);
+        digits(time.getYear(), 4);
+        buffer[position++] = '-';
+        digits(time.getMonthValue(), 2);
+        buffer[position++] = '-';
+        digits(time.getDayOfMonth(), 2);
+        buffer[position++] = ' ';
+        digits(time.getHour(), 2);
+        buffer[position++] = ':';
+        digits(time.getMinute(), 2);
+        buffer[position++] = ':';
+        digits(time.getSecond(), 2);
+        return this;
+    }
+
+    /**
+     * 写出缓冲区中的数据并刷新底层输出流（不关闭）
+     */
+    void flush() throws IOException {
+        drain();
+        out.flush();
+    }
+
+    private MarkupWriter write(String text, boolean escape) throws IOException {
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                if (escape) {
+                    switch (c) {
+                        case '&': raw(AMP); continue;
+                        case '<': raw(LT); continue;
+                        case '>': raw(GT); continue;
+                        case '"': raw(QUOT); continue;
+                        case '\'': raw(APOS); continue;
+                        default:
+                    }
+                    if (c < 0x20 && c != '\t' && c != '\n' && c != '\r') {
+                        continue;
+                    }
+                }
+                ensure(1);
+                buffer[position++] = (byte) c;
+            } else if (c < 0x800) {
+                ensure(2);
+                buffer[position++] = (byte) (0xC0 | (c >> 6));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                ensure(4);
+                buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // 不成对的代理字符无法编码，与JDK编码器一致替换为'?'
+                ensure(1);
+                buffer[position++] = '?';
+            } else {
+                ensure(3);
+                buffer[position++] = (byte) (0xE0 | (c >> 12));
+                buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return this;
+    }
+
+    private void digits(int value, int width) {
+        for (int i = position + width - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        position += width;
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (buffer.length - position < bytes) {
+            drain();
+        }
+    }
+
+    private void drain() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+}
@@ -7,10 +7,15 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * 支持中文的PDF报告生成器
@@ -26,76 +31,82 @@ public class PdfReportGenerator {
             "问题数量", "问题类型", "创建时间", "更新时间"
     };
 
+    // 明细表每累计该行数就交给文档排版一次，已排版的行写出后即从内存释放
+    private static final int DETAIL_FLUSH_ROWS = 200;
+
     // 日期格式
     private static final DateTimeFormatter DATE_TIME_FORMATTER =
             DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
-    // 字体定义
-    private static Font TITLE_FONT;
-    private static Font SUBTITLE_FONT;
-    private static Font DATE_FONT;
-    private static Font SECTION_TITLE_FONT;
-    private static Font TABLE_HEADER_FONT;
-    private static Font TABLE_CONTENT_FONT;
-    private static Font RECOMMENDATION_FONT;
-
-    // 颜色定义
-    private static final BaseColor HEADER_BG_COLOR = new BaseColor(51, 102, 153);
-    private static final BaseColor RECOMMENDATION_BG_COLOR = new BaseColor(249, 249, 249);
-    private static final BaseColor TABLE_ROW_BG_COLOR = new BaseColor(255, 255, 255);
-    private static final BaseColor TABLE_ALT_ROW_BG_COLOR = new BaseColor(245, 245, 245);
-
-    // 静态初始化字体
-    static {
-        initChineseFonts();
+    /**
+     * 生成PDF报告
+     * @param dataList 数据列表
+     * @return PDF字节数组
+     */
+    public static byte[] generateReport(List<CodeAnalysis> dataList) throws Exception {
+        ByteArrayOutputStream ops = new ByteArrayOutputStream();
+        generateReport(dataList, ops);
+        return ops.toByteArray();
     }
 
     /**
-     * 初始化中文字体
+     * 将PDF报告直接写入输出流（不关闭输出流）
+     * @param dataList 数据列表
+     * @param out 目标输出流
      */
-    private static void initChineseFonts() {
-        try {
-            // 使用iText自带的中文字体（确保中文显示）
-            BaseFont baseFont = BaseFont.createFont("STSong-Light", "UniGB-UCS2-H", BaseFont.EMBEDDED);
-
-            // 初始化各种字体样式
-            TITLE_FONT = new Font(baseFont, 24, Font.BOLD, BaseColor.DARK_GRAY);
-            SUBTITLE_FONT = new Font(baseFont, 18, Font.NORMAL, BaseColor.GRAY);
-            DATE_FONT = new Font(baseFont, 12, Font.NORMAL, BaseColor.LIGHT_GRAY);
-            SECTION_TITLE_FONT = new Font(baseFont, 16, Font.BOLD, BaseColor.BLACK);
-            TABLE_HEADER_FONT = new Font(baseFont, 10, Font.BOLD, BaseColor.WHITE);
-            TABLE_CONTENT_FONT = new Font(baseFont, 9, Font.NORMAL, BaseColor.BLACK);
-            RECOMMENDATION_FONT = new Font(baseFont, 10, Font.NORMAL, BaseColor.BLACK);
-
-        } catch (Exception e) {
-            log.error("初始化中文字体失败，将使用默认字体", e);
-            initFallbackFonts();
-        }
+    public static void generateReport(List<CodeAnalysis> dataList, OutputStream out) throws DocumentException {
+        generateReport(ReportStatistics.of(dataList), dataList, ChunkedRenderer.SEQUENTIAL, PdfStyleCache.defaults(), out);
     }
 
     /**
-     * 初始化回退字体（当中文不可用时）
+     * 基于预先计算的统计信息和逐行数据源生成PDF报告，数据源只遍历一次
+     * 开启PDF并行渲染（report.export.parallel.pdf-enabled）且明细超过一个片段时，按行区间并行渲染为独立片段后合并。
+     * 配置了嵌入字体（report.export.pdf.font-path）时始终顺序渲染：每个片段各自嵌入一份字体
+     * （子集化时子集名称还各不相同），合并后无法去重，文件反而比顺序渲染更大
+     * @param statistics 统计信息
+     * @param rows 数据源（可以是数据库游标）
+     * @param renderer 渲染器，提供渲染线程池和片段行数
+     * @param styles 字体和单元格样式，在启动时创建，所有导出共享
+     * @param out 目标输出流
      */
-    private static void initFallbackFonts() {
-        TITLE_FONT = new Font(Font.FontFamily.HELVETICA, 24, Font.BOLD, BaseColor.DARK_GRAY);
-        SUBTITLE_FONT = new Font(Font.FontFamily.HELVETICA, 18, Font.NORMAL, BaseColor.GRAY);
-        DATE_FONT = new Font(Font.FontFamily.HELVETICA, 12, Font.NORMAL, BaseColor.LIGHT_GRAY);
-        SECTION_TITLE_FONT = new Font(Font.FontFamily.HELVETICA, 16, Font.BOLD, BaseColor.BLACK);
-        TABLE_HEADER_FONT = new Font(Font.FontFamily.HELVETICA, 10, Font.BOLD, BaseColor.WHITE);
-        TABLE_CONTENT_FONT = new Font(Font.FontFamily.HELVETICA, 9, Font.NORMAL, BaseColor.BLACK);
-        RECOMMENDATION_FONT = new Font(Font.FontFamily.HELVETICA, 10, Font.NORMAL, BaseColor.BLACK);
+    public static void generateReport(ReportStatistics statistics, Iterable<CodeAnalysis> rows, ChunkedRenderer renderer,
+                                      PdfStyleCache styles, OutputStream out) throws DocumentException {
+        ForkJoinPool renderPool = renderer.pdfRenderPool();
+        if (renderPool == null || styles.embeddedFont) {
+            renderDocument(styles, statistics, rows, out);
+            return;
+        }
+
+        Iterator<CodeAnalysis> iterator = rows.iterator();
+        List<CodeAnalysis> firstChunk = ChunkedRenderer.nextChunk(iterator, renderer.pdfChunkSize());
+        if (!iterator.hasNext()) {
+            // 不足一个片段，没有并行收益
+            renderDocument(styles, statistics, firstChunk, out);
+            return;
+        }
+        renderParallel(renderPool, renderer.pdfChunkSize(), styles, statistics, firstChunk, iterator, out);
     }
 
     /**
-     * 生成PDF报告
-     * @param dataList 数据列表
-     * @return PDF字节数组
+     * 在当前线程中顺序渲染整个文档
      */
-    public static byte[] generateReport(List<CodeAnalysis> dataList) throws Exception {
+    private static void renderDocument(PdfStyleCache styles, ReportStatistics statistics, Iterable<CodeAnalysis> rows,
+                                       OutputStream out) throws DocumentException {
         // 创建文档对象（A4大小，边距36pt）
         Document document = new Document(PageSize.A4, 36, 36, 36, 36);
-        ByteArrayOutputStream ops = new ByteArrayOutputStream();
-        PdfWriter writer = PdfWriter.getInstance(document, ops);
+        PdfWriter writer = PdfWriter.getInstance(document, out);
+        // 输出流由调用方管理，关闭文档时不关闭它
+        writer.setCloseStream(false);
+        // 对象流 + 压缩交叉引用表，减小文件体积
+        writer.setFullCompression();
+
+        // 页脚页码
+        writer.setPageEvent(new PdfPageEventHelper() {
+            @Override
+            public void onEndPage(PdfWriter pdfWriter, Document doc) {
+                addPageNumber(pdfWriter.getDirectContent(), doc.getPageSize(), pdfWriter.getPageNumber(), styles);
+            }
+        });
 
         // 打开文档
         document.open();
@@ -104,25 +115,140 @@ public class PdfReportGenerator {
         setDocumentProperties(document);
 
         // 添加报告标题部分
-        addTitleSection(document);
+        addTitleSection(document, styles);
 
         // 添加执行摘要部分
-        addSummarySection(document, dataList);
+        addSummarySection(document, styles, statistics);
 
         // 添加详细检测结果部分
-        addDetailedResultsSection(document, dataList);
+        addDetailedResultsSection(document, styles, rows);
 
         // 添加问题统计分析部分
-        addIssueStatisticsSection(document, dataList);
+        addIssueStatisticsSection(document, styles, statistics);
 
         // 添加建议和改进措施部分
-        addRecommendationsSection(document);
+        addRecommendationsSection(document, styles);
 
         // 关闭文档
         document.close();
 
         log.info("PDF生成成功");
-        return ops.toByteArray();
+    }
+
+    /**
+     * 按行区间并行渲染PDF片段，再用PdfSmartCopy按顺序合并
+     * 首个片段包含标题、摘要，最后一个片段包含统计分析和建议；每个片段的明细表都带表头。
+     * 片段之间换页；不嵌入的STSong-Light字体在各片段中完全相同，合并时只保留一份，页码在合并时按全局顺序写入。
+     * 数据源在当前线程中顺序读取，同时在途的片段数有上限
+     */
+    private static void renderParallel(ForkJoinPool renderPool, int chunkSize, PdfStyleCache styles, ReportStatistics statistics,
+                                       List<CodeAnalysis> firstChunk, Iterator<CodeAnalysis> iterator,
+                                       OutputStream out) throws DocumentException {
+        int maxInFlight = renderPool.getParallelism() * 2;
+
+        Document document = new Document(PageSize.A4, 36, 36, 36, 36);
+        PdfSmartCopy copy = new PdfSmartCopy(document, out);
+        copy.setCloseStream(false);
+        copy.setFullCompression();
+        document.open();
+        setDocumentProperties(document);
+
+        Deque<ForkJoinTask<byte[]>> inFlight = new ArrayDeque<>();
+        int pageCount = 0;
+        try {
+            List<CodeAnalysis> chunk = firstChunk;
+            boolean first = true;
+            boolean alternate = false;
+            while (true) {
+                List<CodeAnalysis> next = ChunkedRenderer.nextChunk(iterator, chunkSize);
+                boolean last = next.isEmpty();
+                inFlight.addLast(renderPool.submit(fragmentTask(styles, statistics, chunk, first, last, alternate)));
+                if (last) break;
+
+                // 交替行颜色跨片段连续
+                alternate ^= (chunk.size() % 2 == 1);
+                first = false;
+                chunk = next;
+                while (inFlight.size() >= maxInFlight) {
+                    pageCount = appendFragment(copy, inFlight.removeFirst().join(), pageCount, styles);
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                pageCount = appendFragment(copy, inFlight.removeFirst().join(), pageCount, styles);
+            }
+        } catch (IOException e) {
+            throw new DocumentException(e);
+        } finally {
+            // 出错时取消尚未完成的片段
+            for (ForkJoinTask<byte[]> task : inFlight) {
+                task.cancel(false);
+            }
+        }
+
+        document.close();
+
+        log.info("PDF生成成功（并行渲染，{} 页）", pageCount);
+    }
+
+    /**
+     * 渲染单个片段，在渲染线程池中执行
+     */
+    private static ForkJoinTask<byte[]> fragmentTask(PdfStyleCache styles, ReportStatistics statistics, List<CodeAnalysis> rows,
+                                                     boolean first, boolean last, boolean alternate) {
+        return ForkJoinTask.adapt(() -> {
+            ByteArrayOutputStream fragment = new ByteArrayOutputStream();
+            Document document = new Document(PageSize.A4, 36, 36, 36, 36);
+            try {
+                PdfWriter.getInstance(document, fragment);
+                document.open();
+                if (first) {
+                    addTitleSection(document, styles);
+                    addSummarySection(document, styles, statistics);
+                    addDetailedResultsSection(document, styles, rows);
+                } else {
+                    addDetailTable(document, styles, rows, alternate);
+                }
+                if (last) {
+                    addIssueStatisticsSection(document, styles, statistics);
+                    addRecommendationsSection(document, styles);
+                }
+                document.close();
+            } catch (DocumentException e) {
+                throw new ExceptionConverter(e);
+            }
+            return fragment.toByteArray();
+        });
+    }
+
+    /**
+     * 将片段的全部页追加到合并文档，并写入全局页码
+     * @return 追加后的总页数
+     */
+    private static int appendFragment(PdfCopy copy, byte[] fragment, int pageCount, PdfStyleCache styles)
+            throws IOException, DocumentException {
+        PdfReader reader = new PdfReader(fragment);
+        try {
+            for (int i = 1; i <= reader.getNumberOfPages(); i++) {
+                PdfImportedPage page = copy.getImportedPage(reader, i);
+                PdfCopy.PageStamp stamp = copy.createPageStamp(page);
+                addPageNumber(stamp.getOverContent(), reader.getPageSize(i), ++pageCount, styles);
+                stamp.alterContents();
+                copy.addPage(page);
+            }
+            copy.freeReader(reader);
+        } finally {
+            reader.close();
+        }
+        return pageCount;
+    }
+
+    /**
+     * 在页面底部居中写入页码
+     */
+    private static void addPageNumber(PdfContentByte canvas, Rectangle pageSize, int pageNumber, PdfStyleCache styles) {
+        ColumnText.showTextAligned(canvas, Element.ALIGN_CENTER,
+                new Phrase("第 " + pageNumber + " 页", styles.tableContentFont),
+                (pageSize.getLeft() + pageSize.getRight()) / 2, pageSize.getBottom() + 18, 0);
     }
 
     /**
@@ -139,15 +265,15 @@ public class PdfReportGenerator {
     /**
      * 添加报告标题部分
      */
-    private static void addTitleSection(Document document) throws DocumentException {
+    private static void addTitleSection(Document document, PdfStyleCache styles) throws DocumentException {
         // 主标题
-        Paragraph title = new Paragraph(REPORT_TITLE, TITLE_FONT);
+        Paragraph title = new Paragraph(REPORT_TITLE, styles.titleFont);
         title.setAlignment(Element.ALIGN_CENTER);
         title.setSpacingAfter(10f);
         document.add(title);
 
         // 副标题
-        Paragraph subtitle = new Paragraph(REPORT_SUBTITLE, SUBTITLE_FONT);
+        Paragraph subtitle = new Paragraph(REPORT_SUBTITLE, styles.subtitleFont);
         subtitle.setAlignment(Element.ALIGN_CENTER);
         subtitle.setSpacingAfter(10f);
         document.add(subtitle);
@@ -155,7 +281,7 @@ public class PdfReportGenerator {
         // 生成时间
         Paragraph date = new Paragraph(
                 "生成时间: " + java.time.LocalDateTime.now().format(DATE_TIME_FORMATTER),
-                DATE_FONT
+                styles.dateFont
         );
         date.setAlignment(Element.ALIGN_CENTER);
         date.setSpacingAfter(20f);
@@ -165,17 +291,17 @@ public class PdfReportGenerator {
     /**
      * 添加执行摘要部分
      */
-    private static void addSummarySection(Document document, List<CodeAnalysis> dataList) throws DocumentException {
+    private static void addSummarySection(Document document, PdfStyleCache styles, ReportStatistics statistics) throws DocumentException {
         // 部分标题
-        Paragraph sectionTitle = new Paragraph("1. 执行摘要", SECTION_TITLE_FONT);
+        Paragraph sectionTitle = new Paragraph("1. 执行摘要", styles.sectionTitleFont);
         sectionTitle.setSpacingAfter(10f);
         document.add(sectionTitle);
 
         // 计算统计数据
-        int totalFiles = dataList.size();
-        int totalIssues = dataList.stream().mapToInt(data -> data.getIssueCount() != null ? data.getIssueCount() : 0).sum();
-        int totalCodeLines = dataList.stream().mapToInt(data -> data.getCodeLine() != null ? data.getCodeLine() : 0).sum();
-        double issueDensity = totalCodeLines > 0 ? (double) totalIssues / totalCodeLines * 1000 : 0;
+        long totalFiles = statistics.getTotalFiles();
+        long totalIssues = statistics.getTotalIssues();
+        long totalCodeLines = statistics.getTotalCodeLines();
+        double issueDensity = statistics.getIssueDensity();
 
         // 创建表格
         PdfPTable table = new PdfPTable(2);
@@ -185,102 +311,97 @@ public class PdfReportGenerator {
         table.setHorizontalAlignment(Element.ALIGN_LEFT);
 
         // 添加表头
-        addSummaryTableHeader(table);
+        table.addCell(styles.headerCell("指标"));
+        table.addCell(styles.headerCell("数值"));
 
         // 添加数据行
-        addSummaryTableRow(table, "检测文件总数", String.valueOf(totalFiles));
-        addSummaryTableRow(table, "发现问题总数", String.valueOf(totalIssues));
-        addSummaryTableRow(table, "代码总行数", String.valueOf(totalCodeLines));
-        addSummaryTableRow(table, "平均问题密度", String.format("%.2f 问题/千行", issueDensity));
+        addSummaryTableRow(table, styles, "检测文件总数", String.valueOf(totalFiles));
+        addSummaryTableRow(table, styles, "发现问题总数", String.valueOf(totalIssues));
+        addSummaryTableRow(table, styles, "代码总行数", String.valueOf(totalCodeLines));
+        addSummaryTableRow(table, styles, "平均问题密度", String.format("%.2f 问题/千行", issueDensity));
 
         document.add(table);
     }
 
-    /**
-     * 添加摘要表格表头
-     */
-    private static void addSummaryTableHeader(PdfPTable table) {
-        PdfPCell cell = new PdfPCell(new Phrase("指标", TABLE_HEADER_FONT));
-        cell.setBackgroundColor(HEADER_BG_COLOR);
-        cell.setPadding(5);
-        table.addCell(cell);
-
-        cell = new PdfPCell(new Phrase("数值", TABLE_HEADER_FONT));
-        cell.setBackgroundColor(HEADER_BG_COLOR);
-        cell.setPadding(5);
-        table.addCell(cell);
-    }
-
     /**
      * 添加摘要表格行
      */
-    private static void addSummaryTableRow(PdfPTable table, String label, String value) {
-        table.addCell(createContentCell(label));
-        table.addCell(createContentCell(value));
+    private static void addSummaryTableRow(PdfPTable table, PdfStyleCache styles, String label, String value) {
+        table.addCell(styles.contentCell(label, false));
+        table.addCell(styles.contentCell(value, false));
     }
 
     /**
      * 添加详细检测结果部分
      */
-    private static void addDetailedResultsSection(Document document, List<CodeAnalysis> dataList) throws DocumentException {
+    private static void addDetailedResultsSection(Document document, PdfStyleCache styles, Iterable<CodeAnalysis> rows) throws DocumentException {
         // 部分标题
-        Paragraph sectionTitle = new Paragraph("2. 详细检测结果", SECTION_TITLE_FONT);
+        Paragraph sectionTitle = new Paragraph("2. 详细检测结果", styles.sectionTitleFont);
         sectionTitle.setSpacingAfter(10f);
         document.add(sectionTitle);
 
+        addDetailTable(document, styles, rows, false);
+    }
+
+    /**
+     * 添加明细表（并行渲染时每个片段各自一张，表头相同）
+     * 明细表作为LargeElement分批加入文档（setComplete(false)），内存占用与总行数无关；
+     * 表头行在每页重复
+     * @param alternate 首行是否使用交替行背景色
+     */
+    private static void addDetailTable(Document document, PdfStyleCache styles, Iterable<CodeAnalysis> rows,
+                                       boolean alternate) throws DocumentException {
         // 创建表格
         PdfPTable table = new PdfPTable(HEADERS.length);
         table.setWidthPercentage(100);
         table.setSpacingBefore(10f);
         table.setSpacingAfter(20f);
         table.setWidths(new float[]{1, 2, 3, 1, 1, 2, 2, 2}); // 设置列宽比例
+        table.setHeaderRows(1);
+        table.setComplete(false);
 
         // 添加表头
         for (String header : HEADERS) {
-            PdfPCell cell = new PdfPCell(new Phrase(header, TABLE_HEADER_FONT));
-            cell.setBackgroundColor(HEADER_BG_COLOR);
-            cell.setPadding(5);
-            table.addCell(cell);
+            table.addCell(styles.headerCell(header));
         }
 
         // 添加数据行（交替行颜色）
-        boolean alternate = false;
-        for (CodeAnalysis data : dataList) {
+        int pendingRows = 0;
+        for (CodeAnalysis data : rows) {
             if (data != null) {
-                BaseColor bgColor = alternate ? TABLE_ALT_ROW_BG_COLOR : TABLE_ROW_BG_COLOR;
-
-                table.addCell(createContentCell(data.getId() != null ? data.getId().toString() : "N/A", bgColor));
-                table.addCell(createContentCell(data.getFileName() != null ? data.getFileName() : "N/A", bgColor));
-                table.addCell(createContentCell(data.getFilePath() != null ? data.getFilePath() : "N/A", bgColor));
-                table.addCell(createContentCell(data.getCodeLine() != null ? data.getCodeLine().toString() : "0", bgColor));
-                table.addCell(createContentCell(data.getIssueCount() != null ? data.getIssueCount().toString() : "0", bgColor));
-                table.addCell(createContentCell(data.getIssueType() != null ? data.getIssueType() : "N/A", bgColor));
-                table.addCell(createContentCell(data.getCreatedAt() != null ? DATE_TIME_FORMATTER.format(data.getCreatedAt()) : "N/A", bgColor));
-                table.addCell(createContentCell(data.getUpdatedAt() != null ? DATE_TIME_FORMATTER.format(data.getUpdatedAt()) : "N/A", bgColor));
+                table.addCell(styles.contentCell(data.getId() != null ? data.getId().toString() : "N/A", alternate));
+                table.addCell(styles.contentCell(data.getFileName() != null ? data.getFileName() : "N/A", alternate));
+                table.addCell(styles.contentCell(data.getFilePath() != null ? data.getFilePath() : "N/A", alternate));
+                table.addCell(styles.contentCell(data.getCodeLine() != null ? data.getCodeLine().toString() : "0", alternate));
+                table.addCell(styles.contentCell(data.getIssueCount() != null ? data.getIssueCount().toString() : "0", alternate));
+                table.addCell(styles.contentCell(data.getIssueType() != null ? data.getIssueType() : "N/A", alternate));
+                table.addCell(styles.contentCell(data.getCreatedAt() != null ? DATE_TIME_FORMATTER.format(data.getCreatedAt()) : "N/A", alternate));
+                table.addCell(styles.contentCell(data.getUpdatedAt() != null ? DATE_TIME_FORMATTER.format(data.getUpdatedAt()) : "N/A", alternate));
 
                 alternate = !alternate;
+                if (++pendingRows >= DETAIL_FLUSH_ROWS) {
+                    document.add(table);
+                    pendingRows = 0;
+                }
             }
         }
 
+        // 加入剩余的行并结束表格
+        table.setComplete(true);
         document.add(table);
     }
 
     /**
      * 添加问题统计分析部分
      */
-    private static void addIssueStatisticsSection(Document document, List<CodeAnalysis> dataList) throws DocumentException {
+    private static void addIssueStatisticsSection(Document document, PdfStyleCache styles, ReportStatistics statistics) throws DocumentException {
         // 部分标题
-        Paragraph sectionTitle = new Paragraph("3. 问题统计分析", SECTION_TITLE_FONT);
+        Paragraph sectionTitle = new Paragraph("3. 问题统计分析", styles.sectionTitleFont);
         sectionTitle.setSpacingAfter(10f);
         document.add(sectionTitle);
 
         // 统计问题类型分布
-        Map<String, Long> issueTypeStats = dataList.stream()
-                .filter(data -> data.getIssueType() != null && !data.getIssueType().isEmpty())
-                .collect(Collectors.groupingBy(
-                        CodeAnalysis::getIssueType,
-                        Collectors.counting()
-                ));
+        Map<String, Long> issueTypeStats = statistics.getIssueTypeStats();
 
         // 创建表格
         PdfPTable table = new PdfPTable(2);
@@ -290,23 +411,14 @@ public class PdfReportGenerator {
         table.setHorizontalAlignment(Element.ALIGN_LEFT);
 
         // 添加表头
-        PdfPCell cell = new PdfPCell(new Phrase("问题类型", TABLE_HEADER_FONT));
-        cell.setBackgroundColor(HEADER_BG_COLOR);
-        cell.setPadding(5);
-        table.addCell(cell);
-
-        cell = new PdfPCell(new Phrase("文件数量", TABLE_HEADER_FONT));
-        cell.setBackgroundColor(HEADER_BG_COLOR);
-        cell.setPadding(5);
-        table.addCell(cell);
+        table.addCell(styles.headerCell("问题类型"));
+        table.addCell(styles.headerCell("文件数量"));
 
-        // 添加数据行（按数量降序排序）
-        issueTypeStats.entrySet().stream()
-                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
-                .forEach(entry -> {
-                    table.addCell(createContentCell(entry.getKey()));
-                    table.addCell(createContentCell(entry.getValue().toString()));
-                });
+        // 添加数据行（已按数量降序排列）
+        for (Map.Entry<String, Long> entry : issueTypeStats.entrySet()) {
+            table.addCell(styles.contentCell(entry.getKey(), false));
+            table.addCell(styles.contentCell(entry.getValue().toString(), false));
+        }
 
         document.add(table);
     }
@@ -314,9 +426,9 @@ public class PdfReportGenerator {
     /**
      * 添加建议和改进措施部分
      */
-    private static void addRecommendationsSection(Document document) throws DocumentException {
+    private static void addRecommendationsSection(Document document, PdfStyleCache styles) throws DocumentException {
         // 部分标题
-        Paragraph sectionTitle = new Paragraph("4. 建议和改进措施", SECTION_TITLE_FONT);
+        Paragraph sectionTitle = new Paragraph("4. 建议和改进措施", styles.sectionTitleFont);
         sectionTitle.setSpacingAfter(10f);
         document.add(sectionTitle);
 
@@ -328,7 +440,7 @@ public class PdfReportGenerator {
 
         // 创建内容单元格
         PdfPCell cell = new PdfPCell();
-        cell.setBackgroundColor(RECOMMENDATION_BG_COLOR);
+        cell.setBackgroundColor(PdfStyleCache.RECOMMENDATION_BG_COLOR);
         cell.setPadding(10);
         cell.setBorder(Rectangle.BOX);
         cell.setBorderWidth(1);
@@ -340,11 +452,11 @@ public class PdfReportGenerator {
         pdfList.setIndentationLeft(10);
 
         // 添加列表项
-        pdfList.add(createListItem("定期进行代码质量检测，建立代码质量门禁机制"));
-        pdfList.add(createListItem("对发现的问题进行分类处理，优先解决高严重性问题"));
-        pdfList.add(createListItem("建立代码审查流程，提高代码质量意识"));
-        pdfList.add(createListItem("使用自动化工具进行持续集成和持续部署"));
-        pdfList.add(createListItem("定期进行代码重构，减少技术债务"));
+        pdfList.add(createListItem(styles, "定期进行代码质量检测，建立代码质量门禁机制"));
+        pdfList.add(createListItem(styles, "对发现的问题进行分类处理，优先解决高严重性问题"));
+        pdfList.add(createListItem(styles, "建立代码审查流程，提高代码质量意识"));
+        pdfList.add(createListItem(styles, "使用自动化工具进行持续集成和持续部署"));
+        pdfList.add(createListItem(styles, "定期进行代码重构，减少技术债务"));
 
         cell.addElement(pdfList);
         table.addCell(cell);
@@ -352,29 +464,11 @@ public class PdfReportGenerator {
         document.add(table);
     }
 
-    /**
-     * 创建内容单元格
-     */
-    private static PdfPCell createContentCell(String content) {
-        return createContentCell(content, TABLE_ROW_BG_COLOR);
-    }
-
-    /**
-     * 创建带背景色的内容单元格
-     */
-    private static PdfPCell createContentCell(String content, BaseColor bgColor) {
-        PdfPCell cell = new PdfPCell(new Phrase(content, TABLE_CONTENT_FONT));
-        cell.setBackgroundColor(bgColor);
-        cell.setPadding(5);
-        cell.setBorderColor(BaseColor.LIGHT_GRAY);
-        return cell;
-    }
-
     /**
      * 创建列表项
      */
-    private static ListItem createListItem(String text) {
-        ListItem item = new ListItem(text, RECOMMENDATION_FONT);
+    private static ListItem createListItem(PdfStyleCache styles, String text) {
+        ListItem item = new ListItem(text, styles.recommendationFont);
         item.setIndentationLeft(5);
         return item;
     }
@@ -0,0 +1,134 @@
+package io.github.asthenia0412.multipleformatreportexport.util.generator;
+
+import com.itextpdf.text.BaseColor;
+import com.itextpdf.text.Font;
+import com.itextpdf.text.Phrase;
+import com.itextpdf.text.pdf.BaseFont;
+import com.itextpdf.text.pdf.PdfPCell;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.StringUtils;
+
+/**
+ * PDF字体与单元格样式缓存
+ * BaseFont创建代价高（解析CMap或TTF文件），由PdfFontConfig在启动时按配置创建一次；
+ * 实例创建后不再修改，所有导出线程共享
+ */
+@Slf4j
+public final class PdfStyleCache {
+
+    // 颜色定义
+    static final BaseColor HEADER_BG_COLOR = new BaseColor(51, 102, 153);
+    static final BaseColor RECOMMENDATION_BG_COLOR = new BaseColor(249, 249, 249);
+    static final BaseColor TABLE_ROW_BG_COLOR = new BaseColor(255, 255, 255);
+    static final BaseColor TABLE_ALT_ROW_BG_COLOR = new BaseColor(245, 245, 245);
+
+    final Font titleFont;
+    final Font subtitleFont;
+    final Font dateFont;
+    final Font sectionTitleFont;
+    final Font tableHeaderFont;
+    final Font tableContentFont;
+    final Font recommendationFont;
+
+    /**
+     * 是否使用嵌入字体（font-path指定的TTF/OTF），STSong-Light和回退字体不嵌入
+     */
+    final boolean embeddedFont;
+
+    // 单元格模板：每个单元格只复制模板并设置内容，不再逐个设置背景、边距、边框
+    private final PdfPCell headerTemplate;
+    private final PdfPCell contentTemplate;
+    private final PdfPCell altContentTemplate;
+
+    private PdfStyleCache(BaseFont baseFont, boolean embeddedFont) {
+        this.embeddedFont = embeddedFont;
+        if (baseFont != null) {
+            titleFont = new Font(baseFont, 24, Font.BOLD, BaseColor.DARK_GRAY);
+            subtitleFont = new Font(baseFont, 18, Font.NORMAL, BaseColor.GRAY);
+            dateFont = new Font(baseFont, 12, Font.NORMAL, BaseColor.LIGHT_GRAY);
+            sectionTitleFont = new Font(baseFont, 16, Font.BOLD, BaseColor.BLACK);
+            tableHeaderFont = new Font(baseFont, 10, Font.BOLD, BaseColor.WHITE);
+            tableContentFont = new Font(baseFont, 9, Font.NORMAL, BaseColor.BLACK);
+            recommendationFont = new Font(baseFont, 10, Font.NORMAL, BaseColor.BLACK);
+        } else {
+            // 回退字体（中文不可用时）
+            titleFont = new Font(Font.FontFamily.HELVETICA, 24, Font.BOLD, BaseColor.DARK_GRAY);
+            subtitleFont = new Font(Font.FontFamily.HELVETICA, 18, Font.NORMAL, BaseColor.GRAY);
+            dateFont = new Font(Font.FontFamily.HELVETICA, 12, Font.NORMAL, BaseColor.LIGHT_GRAY);
+            sectionTitleFont = new Font(Font.FontFamily.HELVETICA, 16, Font.BOLD, BaseColor.BLACK);
+            tableHeaderFont = new Font(Font.FontFamily.HELVETICA, 10, Font.BOLD, BaseColor.WHITE);
+            tableContentFont = new Font(Font.FontFamily.HELVETICA, 9, Font.NORMAL, BaseColor.BLACK);
+            recommendationFont = new Font(Font.FontFamily.HELVETICA, 10, Font.NORMAL, BaseColor.BLACK);
+        }
+
+        headerTemplate = new PdfPCell();
+        headerTemplate.setBackgroundColor(HEADER_BG_COLOR);
+        headerTemplate.setPadding(5);
+
+        contentTemplate = createContentTemplate(TABLE_ROW_BG_COLOR);
+        altContentTemplate = createContentTemplate(TABLE_ALT_ROW_BG_COLOR);
+    }
+
+    private static PdfPCell createContentTemplate(BaseColor bgColor) {
+        PdfPCell cell = new PdfPCell();
+        cell.setBackgroundColor(bgColor);
+        cell.setPadding(5);
+        cell.setBorderColor(BaseColor.LIGHT_GRAY);
+        return cell;
+    }
+
+    /**
+     * 使用内置STSong-Light字体的样式缓存，首次使用时创建
+     */
+    static PdfStyleCache defaults() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * 按配置创建样式缓存，字体加载失败时回退到内置字体
+     * @param fontPath TTF/OTF字体文件路径或类路径资源，为空时使用iText自带的STSong-Light
+     * @param subset 嵌入TTF字体时是否只嵌入实际用到的字形
+     */
+    public static PdfStyleCache create(String fontPath, boolean subset) {
+        if (StringUtils.hasText(fontPath)) {
+            try {
+                BaseFont baseFont = BaseFont.createFont(fontPath, BaseFont.IDENTITY_H, BaseFont.EMBEDDED);
+                baseFont.setSubset(subset);
+                log.info("PDF使用嵌入字体 {}（子集化: {}）", fontPath, subset);
+                return new PdfStyleCache(baseFont, true);
+            } catch (Exception e) {
+                log.error("加载PDF字体 {} 失败，改用内置中文字体", fontPath, e);
+            }
+        }
+        try {
+            // iText自带的中文字体（CJK字体不嵌入，由阅读器提供字形）
+            return new PdfStyleCache(BaseFont.createFont("STSong-Light", "UniGB-UCS2-H", BaseFont.NOT_EMBEDDED), false);
+        } catch (Exception e) {
+            log.error("初始化中文字体失败，将使用默认字体", e);
+            return new PdfStyleCache(null, false);
+        }
+    }
+
+    private static final class DefaultHolder {
+        static final PdfStyleCache INSTANCE = create(null, true);
+    }
+
+    /**
+     * 表头单元格
+     */
+    PdfPCell headerCell(String text) {
+        PdfPCell cell = new PdfPCell(headerTemplate);
+        cell.setPhrase(new Phrase(text, tableHeaderFont));
+        return cell;
+    }
+
+    /**
+     * 内容单元格
+     * @param alternate 是否使用交替行背景色
+     */
+    PdfPCell contentCell(String text, boolean alternate) {
+        PdfPCell cell = new PdfPCell(alternate ? altContentTemplate : contentTemplate);
+        cell.setPhrase(new Phrase(text, tableContentFont));
+        return cell;
+    }
+}
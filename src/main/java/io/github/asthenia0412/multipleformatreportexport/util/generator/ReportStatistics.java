@@ -0,0 +1,131 @@
+package io.github.asthenia0412.multipleformatreportexport.util.generator;
+
+import io.github.asthenia0412.multipleformatreportexport.entity.CodeAnalysis;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 报告统计信息（执行摘要 + 问题类型分布）
+ * 以累加器方式逐行收集，数据源可以是列表，也可以是只能遍历一次的数据库游标；
+ * 每次导出只计算一次，由所有格式的生成器共享，保证各格式报告中的数字一致
+ */
+public class ReportStatistics {
+
+    /**
+     * 数据量达到该阈值时并行统计，小数据量并行的拆分开销大于收益
+     */
+    static final int PARALLEL_THRESHOLD = 50_000;
+
+    private long totalFiles;
+    private long totalIssues;
+    private long totalCodeLines;
+    private final Map<String, Long> issueTypeStats = new HashMap<>();
+
+    /**
+     * 在当前线程中遍历数据源计算统计信息
+     * @param rows 数据源
+     * @return 统计信息
+     */
+    public static ReportStatistics of(Iterable<CodeAnalysis> rows) {
+        ReportStatistics statistics = new ReportStatistics();
+        for (CodeAnalysis data : rows) {
+            statistics.accept(data);
+        }
+        return statistics;
+    }
+
+    /**
+     * 单遍计算统计信息，大数据量时在渲染线程池中分段并行累加后合并
+     * 并行流提交到渲染线程池内执行，不占用公共ForkJoinPool；未启用并行渲染时在当前线程中顺序统计
+     * @param rows 数据源
+     * @param renderer 提供渲染线程池的渲染器
+     * @return 统计信息
+     */
+    public static ReportStatistics of(Collection<CodeAnalysis> rows, ChunkedRenderer renderer) {
+        ForkJoinPool renderPool = renderer.renderPool();
+        if (renderPool == null || rows.size() < PARALLEL_THRESHOLD) {
+            return of(rows);
+        }
+        return renderPool.submit(() -> rows.parallelStream()
+                .collect(ReportStatistics::new, ReportStatistics::accept, ReportStatistics::combine)).join();
+    }
+
+    /**
+     * 由已聚合的结果（如数据库端 SUM/COUNT/GROUP BY）构造统计信息
+     * @param issueTypeStats 问题类型 -> 文件数量
+     */
+    public static ReportStatistics of(long totalFiles, long totalIssues, long totalCodeLines,
+                                      Map<String, Long> issueTypeStats) {
+        ReportStatistics statistics = new ReportStatistics();
+        statistics.totalFiles = totalFiles;
+        statistics.totalIssues = totalIssues;
+        statistics.totalCodeLines = totalCodeLines;
+        statistics.issueTypeStats.putAll(issueTypeStats);
+        return statistics;
+    }
+
+    /**
+     * 累加一行数据
+     */
+    public void accept(CodeAnalysis data) {
+        if (data == null) return;
+
+        totalFiles++;
+        totalIssues += data.getIssueCount() != null ? data.getIssueCount() : 0;
+        totalCodeLines += data.getCodeLine() != null ? data.getCodeLine() : 0;
+        if (data.getIssueType() != null && !data.getIssueType().isEmpty()) {
+            issueTypeStats.merge(data.getIssueType(), 1L, Long::sum);
+        }
+    }
+
+    /**
+     * 合并另一段数据的统计结果
+     */
+    public void combine(ReportStatistics other) {
+        totalFiles += other.totalFiles;
+        totalIssues += other.totalIssues;
+        totalCodeLines += other.totalCodeLines;
+        other.issueTypeStats.forEach((type, count) -> issueTypeStats.merge(type, count, Long::sum));
+    }
+
+    public long getTotalFiles() {
+        return totalFiles;
+    }
+
+    public long getTotalIssues() {
+        return totalIssues;
+    }
+
+    public long getTotalCodeLines() {
+        return totalCodeLines;
+    }
+
+    /**
+     * 平均问题密度（问题/千行）
+     */
+    public double getIssueDensity() {
+        return totalCodeLines > 0 ? (double) totalIssues / totalCodeLines * 1000 : 0;
+    }
+
+    /**
+     * 问题类型分布，按数量降序、同数量按类型名称升序排列，与数据行顺序无关
+     */
+    public Map<String, Long> getIssueTypeStats() {
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(issueTypeStats.entrySet());
+        entries.sort(Map.Entry.<String, Long>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey()));
+
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> entry : entries) {
+            sorted.put(entry.getKey(), entry.getValue());
+        }
+        return Collections.unmodifiableMap(sorted);
+    }
+}
@@ -1,12 +1,22 @@
 package io.github.asthenia0412.multipleformatreportexport.util.generator;
 
 import io.github.asthenia0412.multipleformatreportexport.entity.CodeAnalysis;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.IndexedColors;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 
@@ -27,59 +37,140 @@ public class XLSReportGenerator {
     private static final int DEFAULT_FONT_SIZE = 10;
     private static final int HEADER_FONT_SIZE = 11;
     private static final int TITLE_FONT_SIZE = 16;
-    private static final String HEADER_BACKGROUND_COLOR = "D3D3D3";
+    private static final String DATE_CELL_FORMAT = "yyyy-mm-dd hh:mm:ss";
 
-    public static byte[] generateXLSReport(List<CodeAnalysis> dataList) {
+    // 工作表布局：标题、生成时间、表头各占一行，数据从第4行开始
+    private static final String SHEET_NAME = "代码质量检测";
+    private static final int HEADER_ROW = 2;
+    private static final int FIRST_DATA_ROW = 3;
+
+    public static byte[] generateXLSReport(List<CodeAnalysis> dataList, XlsxSettings settings) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        generateXLSReport(dataList, settings, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * 将Excel 2007+（.xlsx）报告直接写入输出流（不关闭输出流），数据源只遍历一次
+     * @param rows 数据源（可以是数据库游标）
+     * @param settings SXSSF写出参数
+     * @param out 目标输出流
+     */
+    public static void generateXLSReport(Iterable<CodeAnalysis> rows, XlsxSettings settings, OutputStream out) {
         SXSSFWorkbook workbook = null;
-        ByteArrayOutputStream out = null;
         try {
-            workbook = new SXSSFWorkbook(100);
-            out = new ByteArrayOutputStream();
+            workbook = createStreamingWorkbook(settings);
+            writeWorkbook(workbook, rows, out);
+        } finally {
+            closeResources(workbook);
+        }
+    }
+
+    /**
+     * 生成Excel 97-2003（.xls）报告
+     */
+    public static byte[] generateLegacyXLSReport(List<CodeAnalysis> dataList) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        generateLegacyXLSReport(dataList, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * 将Excel 97-2003（.xls）报告写入输出流（不关闭输出流）
+     * HSSF没有流式模式，工作簿在内存中生成后一次写出
+     * @param rows 数据源（可以是数据库游标）
+     * @param out 目标输出流
+     */
+    public static void generateLegacyXLSReport(Iterable<CodeAnalysis> rows, OutputStream out) {
+        HSSFWorkbook workbook = null;
+        try {
+            workbook = new HSSFWorkbook();
+            writeWorkbook(workbook, rows, out);
+        } finally {
+            closeResources(workbook);
+        }
+    }
 
-            Sheet sheet = workbook.createSheet("代码质量检测");
+    private static SXSSFWorkbook createStreamingWorkbook(XlsxSettings settings) {
+        int compressionLevel = settings.getCompressionLevel();
+        return new SXSSFWorkbook(null, settings.getRowWindow(),
+                settings.isCompressTempFiles(), settings.isSharedStrings()) {
+            @Override
+            protected ZipArchiveOutputStream createArchiveOutputStream(OutputStream stream) {
+                ZipArchiveOutputStream zos = super.createArchiveOutputStream(stream);
+                zos.setLevel(compressionLevel);
+                return zos;
+            }
+        };
+    }
 
-            // 创建报告标题
-            createXlsTitle(sheet);
-            createXlsHeader(sheet, 2); // 从第3行开始创建表头
+    /**
+     * 填充工作簿并写出，行数达到格式上限（xls 65,536 / xlsx 1,048,576）时
+     * 切换到新工作表继续写入，新工作表同样带标题和表头
+     */
+    private static void writeWorkbook(Workbook workbook, Iterable<CodeAnalysis> rows, OutputStream out) {
+        try {
+            int maxRows = workbook.getSpreadsheetVersion().getMaxRows();
+            XlsStyles styles = new XlsStyles(workbook);
+            Sheet sheet = createXlsSheet(workbook, styles);
 
             // 填充数据行
-            for (int i = 0; i < dataList.size(); i++) {
-                CodeAnalysis data = dataList.get(i);
+            int rowIndex = FIRST_DATA_ROW;
+            for (CodeAnalysis data : rows) {
                 if (data != null) {
-                    populateXlsRow(sheet.createRow(i + 3), data); // 从第4行开始填充数据
+                    if (rowIndex >= maxRows) {
+                        sheet = createXlsSheet(workbook, styles);
+                        rowIndex = FIRST_DATA_ROW;
+                    }
+                    populateXlsRow(sheet.createRow(rowIndex++), data, styles);
                 }
             }
 
-            // 手动设置列宽
-            setXlsColumnWidths(sheet);
-
             workbook.write(out);
-            return out.toByteArray();
         } catch (IOException e) {
             throw new RuntimeException("Excel导出失败", e);
-        } finally {
-            closeResources(workbook, out);
         }
     }
+
     // ==================== XLS相关方法 ====================
 
-    private static void createXlsTitle(Sheet sheet) {
+    /**
+     * 创建带标题、表头和列宽的工作表，第二个起的工作表名称带序号
+     */
+    private static Sheet createXlsSheet(Workbook workbook, XlsStyles styles) {
+        int sheetCount = workbook.getNumberOfSheets();
+        Sheet sheet = workbook.createSheet(sheetCount == 0 ? SHEET_NAME : SHEET_NAME + " (" + (sheetCount + 1) + ")");
+
+        // 创建报告标题
+        createXlsTitle(sheet, styles);
+        createXlsHeader(sheet, HEADER_ROW, styles);
+
+        // 手动设置列宽
+        setXlsColumnWidths(sheet);
+        return sheet;
+    }
+
+    private static void createXlsTitle(Sheet sheet, XlsStyles styles) {
         Row titleRow = sheet.createRow(0);
-        titleRow.createCell(0).setCellValue(REPORT_TITLE);
+        Cell titleCell = titleRow.createCell(0);
+        titleCell.setCellValue(REPORT_TITLE);
+        titleCell.setCellStyle(styles.title);
         titleRow.createCell(1).setCellValue(REPORT_SUBTITLE);
 
         Row dateRow = sheet.createRow(1);
-        dateRow.createCell(0).setCellValue("生成时间：" + java.time.LocalDateTime.now().format(DATE_TIME_FORMATTER));
+        dateRow.createCell(0).setCellValue("生成时间：" + LocalDateTime.now().format(DATE_TIME_FORMATTER));
     }
 
-    private static void createXlsHeader(Sheet sheet, int startRow) {
+    private static void createXlsHeader(Sheet sheet, int startRow, XlsStyles styles) {
         Row header = sheet.createRow(startRow);
         for (int i = 0; i < HEADERS.length; i++) {
-            header.createCell(i).setCellValue(HEADERS[i]);
+            Cell cell = header.createCell(i);
+            cell.setCellValue(HEADERS[i]);
+            cell.setCellStyle(styles.header);
         }
     }
 
-    private static void populateXlsRow(Row row, CodeAnalysis data) {
+    private static void populateXlsRow(Row row, CodeAnalysis data, XlsStyles styles) {
         if (data == null) return;
 
         row.createCell(0).setCellValue(data.getId() != null ? data.getId() : 0L);
@@ -88,10 +179,20 @@ public class XLSReportGenerator {
         row.createCell(3).setCellValue(data.getCodeLine() != null ? data.getCodeLine() : 0);
         row.createCell(4).setCellValue(data.getIssueCount() != null ? data.getIssueCount() : 0);
         row.createCell(5).setCellValue(data.getIssueType() != null ? data.getIssueType() : "N/A");
-        row.createCell(6).setCellValue(data.getCreatedAt() != null ?
-                DATE_TIME_FORMATTER.format(data.getCreatedAt()) : "N/A");
-        row.createCell(7).setCellValue(data.getUpdatedAt() != null ?
-                DATE_TIME_FORMATTER.format(data.getUpdatedAt()) : "N/A");
+        setDateCell(row.createCell(6), data.getCreatedAt(), styles);
+        setDateCell(row.createCell(7), data.getUpdatedAt(), styles);
+    }
+
+    /**
+     * 日期以Excel日期值写出（可排序、筛选），显示格式由共享的日期样式决定
+     */
+    private static void setDateCell(Cell cell, LocalDateTime value, XlsStyles styles) {
+        if (value == null) {
+            cell.setCellValue("N/A");
+            return;
+        }
+        cell.setCellValue(value);
+        cell.setCellStyle(styles.date);
     }
 
     private static void setXlsColumnWidths(Sheet sheet) {
@@ -101,20 +202,46 @@ public class XLSReportGenerator {
         }
     }
 
-    private static void closeResources(SXSSFWorkbook workbook, ByteArrayOutputStream out) {
+    private static void closeResources(Workbook workbook) {
         if (workbook != null) {
             try {
+                // SXSSF关闭时同时删除临时文件
                 workbook.close();
             } catch (IOException e) {
                 System.err.println("关闭工作簿时出错: " + e.getMessage());
             }
         }
-        if (out != null) {
-            try {
-                out.close();
-            } catch (IOException e) {
-                System.err.println("关闭输出流时出错: " + e.getMessage());
-            }
+    }
+
+    /**
+     * 单个工作簿内共享的单元格样式
+     * 样式属于工作簿，每个工作簿只创建一次，所有工作表和数据行复用，
+     * 避免逐个单元格创建样式（xls最多只能有4000个样式）
+     */
+    private static final class XlsStyles {
+        final CellStyle title;
+        final CellStyle header;
+        final CellStyle date;
+
+        XlsStyles(Workbook workbook) {
+            Font titleFont = workbook.createFont();
+            titleFont.setFontName(DEFAULT_FONT_FAMILY);
+            titleFont.setFontHeightInPoints((short) TITLE_FONT_SIZE);
+            titleFont.setBold(true);
+            title = workbook.createCellStyle();
+            title.setFont(titleFont);
+
+            Font headerFont = workbook.createFont();
+            headerFont.setFontName(DEFAULT_FONT_FAMILY);
+            headerFont.setFontHeightInPoints((short) HEADER_FONT_SIZE);
+            headerFont.setBold(true);
+            header = workbook.createCellStyle();
+            header.setFont(headerFont);
+            header.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
+            header.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+
+            date = workbook.createCellStyle();
+            date.setDataFormat(workbook.createDataFormat().getFormat(DATE_CELL_FORMAT));
         }
     }
 
@@ -0,0 +1,61 @@
+package io.github.asthenia0412.multipleformatreportexport.util.generator;
+
+import java.util.zip.Deflater;
+
+/**
+ * XLSX（SXSSF）写出参数
+ * 在CPU、临时磁盘和网络传输之间取舍，按部署环境配置；实例创建后不再修改
+ */
+public final class XlsxSettings {
+
+    /**
+     * 默认参数，与POI默认行为一致
+     */
+    public static final XlsxSettings DEFAULT = new XlsxSettings(100, false, false, Deflater.DEFAULT_COMPRESSION);
+
+    private final int rowWindow;
+    private final boolean compressTempFiles;
+    private final boolean sharedStrings;
+    private final int compressionLevel;
+
+    /**
+     * @param rowWindow 内存中保留的行数，超出的行刷写到临时文件
+     * @param compressTempFiles 临时文件是否gzip压缩（省磁盘，费CPU）
+     * @param sharedStrings 是否使用共享字符串表；重复值多（如问题类型）时文件更小，但字符串表常驻内存
+     * @param compressionLevel 输出zip压缩级别，-1为默认，0-9
+     */
+    public XlsxSettings(int rowWindow, boolean compressTempFiles, boolean sharedStrings, int compressionLevel) {
+        if (rowWindow < 1) {
+            throw new IllegalArgumentException("行窗口大小必须大于0: " + rowWindow);
+        }
+        if (compressionLevel < Deflater.DEFAULT_COMPRESSION || compressionLevel > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("压缩级别必须在-1到9之间: " + compressionLevel);
+        }
+        this.rowWindow = rowWindow;
+        this.compressTempFiles = compressTempFiles;
+        this.sharedStrings = sharedStrings;
+        this.compressionLevel = compressionLevel;
+    }
+
+    public int getRowWindow() {
+        return rowWindow;
+    }
+
+    public boolean isCompressTempFiles() {
+        return compressTempFiles;
+    }
+
+    public boolean isSharedStrings() {
+        return sharedStrings;
+    }
+
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    @Override
+    public String toString() {
+        return "rowWindow=" + rowWindow + ", compressTempFiles=" + compressTempFiles
+                + ", sharedStrings=" + sharedStrings + ", compressionLevel=" + compressionLevel;
+    }
+}
@@ -1,10 +1,13 @@
 package io.github.asthenia0412.multipleformatreportexport.util.generator;
 
 import io.github.asthenia0412.multipleformatreportexport.entity.CodeAnalysis;
-import java.time.format.DateTimeFormatter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * XML报告生成器
@@ -14,8 +17,74 @@ public class XmlReportGenerator {
     private static final String REPORT_TITLE = "代码质量检测报告";
     private static final String REPORT_SUBTITLE = "Code Quality Analysis Report";
     
-    private static final DateTimeFormatter DATE_TIME_FORMATTER = 
-            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final String[] RECOMMENDATIONS = {
+            "定期进行代码质量检测，建立代码质量门禁机制",
+            "对发现的问题进行分类处理，优先解决高严重性问题",
+            "建立代码审查流程，提高代码质量意识",
+            "使用自动化工具进行持续集成和持续部署",
+            "定期进行代码重构，减少技术债务"
+    };
+    
+    // 常量片段：启动时预编码为UTF-8，每次导出直接拷贝字节
+    private static final byte[] HEAD = MarkupWriter.utf8(
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+            "<codeQualityReport xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\n" +
+            "                   xsi:noNamespaceSchemaLocation=\"code-quality-report.xsd\">\n" +
+            "    <reportHeader>\n" +
+            "        <title>" + REPORT_TITLE + "</title>\n" +
+            "        <subtitle>" + REPORT_SUBTITLE + "</subtitle>\n" +
+            "        <generatedAt>");
+    private static final byte[] SUMMARY_OPEN = MarkupWriter.utf8(
+            "</generatedAt>\n" +
+            "        <version>1.0</version>\n" +
+            "    </reportHeader>\n" +
+            "    <executiveSummary>\n" +
+            "        <totalFiles>");
+    private static final byte[] TOTAL_ISSUES = MarkupWriter.utf8("</totalFiles>\n        <totalIssues>");
+    private static final byte[] TOTAL_CODE_LINES = MarkupWriter.utf8("</totalIssues>\n        <totalCodeLines>");
+    private static final byte[] ISSUE_DENSITY = MarkupWriter.utf8("</totalCodeLines>\n        <averageIssueDensity>");
+    private static final byte[] STATISTICS_OPEN = MarkupWriter.utf8(
+            "</averageIssueDensity>\n" +
+            "        <issueDensityUnit>问题/千行</issueDensityUnit>\n" +
+            "    </executiveSummary>\n" +
+            "    <issueTypeStatistics>\n");
+    private static final byte[] STAT_TYPE = MarkupWriter.utf8("        <issueType>\n            <type>");
+    private static final byte[] STAT_COUNT = MarkupWriter.utf8("</type>\n            <fileCount>");
+    private static final byte[] STAT_CLOSE = MarkupWriter.utf8("</fileCount>\n        </issueType>\n");
+    private static final byte[] DETAILS_OPEN = MarkupWriter.utf8(
+            "    </issueTypeStatistics>\n" +
+            "    <detailedResults>\n");
+    private static final byte[] TAIL;
+    
+    // 明细行片段
+    private static final byte[] FILE_ID = MarkupWriter.utf8("        <file>\n            <id>");
+    private static final byte[] FILE_NAME = MarkupWriter.utf8("</id>\n            <fileName>");
+    private static final byte[] FILE_PATH = MarkupWriter.utf8("</fileName>\n            <filePath>");
+    private static final byte[] CODE_LINE = MarkupWriter.utf8("</filePath>\n            <codeLine>");
+    private static final byte[] ISSUE_COUNT = MarkupWriter.utf8("</codeLine>\n            <issueCount>");
+    private static final byte[] ISSUE_TYPE = MarkupWriter.utf8("</issueCount>\n            <issueType>");
+    private static final byte[] CREATED_AT = MarkupWriter.utf8("</issueType>\n            <createdAt>");
+    private static final byte[] UPDATED_AT = MarkupWriter.utf8("</createdAt>\n            <updatedAt>");
+    private static final byte[] FILE_CLOSE = MarkupWriter.utf8("</updatedAt>\n        </file>\n");
+    private static final byte[] NOT_AVAILABLE = MarkupWriter.utf8("N/A");
+    
+    static {
+        StringBuilder tail = new StringBuilder();
+        tail.append("    </detailedResults>\n");
+        tail.append("    <recommendations>\n");
+        for (String rec : RECOMMENDATIONS) {
+            tail.append("        <recommendation>").append(rec).append("</recommendation>\n");
+        }
+        tail.append("    </recommendations>\n");
+        tail.append("    <metadata>\n");
+        tail.append("        <generator>MultipleFormatReportExport</generator>\n");
+        tail.append("        <format>XML</format>\n");
+        tail.append("        <encoding>UTF-8</encoding>\n");
+        tail.append("        <schemaVersion>1.0</schemaVersion>\n");
+        tail.append("    </metadata>\n");
+        tail.append("</codeQualityReport>");
+        TAIL = MarkupWriter.utf8(tail.toString());
+    }
     
     /**
      * 生成XML报告
@@ -23,118 +92,80 @@ public class XmlReportGenerator {
      * @return XML字节数组
      */
     public static byte[] generateReport(List<CodeAnalysis> dataList) throws Exception {
-        String xml = generateXmlContent(dataList);
-        return xml.getBytes("UTF-8");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        generateReport(dataList, out);
+        return out.toByteArray();
     }
     
     /**
-     * 生成XML内容
+     * 将XML报告直接写入输出流（不关闭输出流）
+     * @param dataList 数据列表
+     * @param out 目标输出流
      */
-    private static String generateXmlContent(List<CodeAnalysis> dataList) {
-        StringBuilder xml = new StringBuilder();
-        
-        // XML声明
-        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
-        
-        // 根元素
-        xml.append("<codeQualityReport xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\n");
-        xml.append("                   xsi:noNamespaceSchemaLocation=\"code-quality-report.xsd\">\n");
+    public static void generateReport(List<CodeAnalysis> dataList, OutputStream out) throws IOException {
+        generateReport(ReportStatistics.of(dataList), dataList, ChunkedRenderer.SEQUENTIAL, out);
+    }
+    
+    /**
+     * 基于预先计算的统计信息和逐行数据源生成XML报告，数据源只遍历一次
+     * 元素标签为预编码片段，文本单遍转义后直接编码进输出缓冲区，不生成中间字符串
+     * @param statistics 统计信息
+     * @param rows 数据源（可以是数据库游标）
+     * @param renderer 明细渲染器
+     * @param out 目标输出流
+     */
+    public static void generateReport(ReportStatistics statistics, Iterable<CodeAnalysis> rows, ChunkedRenderer renderer,
+                                      OutputStream out) throws IOException {
+        MarkupWriter xml = new MarkupWriter(out);
         
         // 报告头部信息
-        xml.append("    <reportHeader>\n");
-        xml.append("        <title>").append(escapeXml(REPORT_TITLE)).append("</title>\n");
-        xml.append("        <subtitle>").append(escapeXml(REPORT_SUBTITLE)).append("</subtitle>\n");
-        xml.append("        <generatedAt>").append(java.time.LocalDateTime.now().format(DATE_TIME_FORMATTER)).append("</generatedAt>\n");
-        xml.append("        <version>1.0</version>\n");
-        xml.append("    </reportHeader>\n");
+        xml.raw(HEAD).dateTime(LocalDateTime.now());
         
         // 执行摘要
-        xml.append("    <executiveSummary>\n");
-        int totalFiles = dataList.size();
-        int totalIssues = dataList.stream().mapToInt(data -> data.getIssueCount() != null ? data.getIssueCount() : 0).sum();
-        int totalCodeLines = dataList.stream().mapToInt(data -> data.getCodeLine() != null ? data.getCodeLine() : 0).sum();
-        double issueDensity = totalCodeLines > 0 ? (double) totalIssues / totalCodeLines * 1000 : 0;
-        
-        xml.append("        <totalFiles>").append(totalFiles).append("</totalFiles>\n");
-        xml.append("        <totalIssues>").append(totalIssues).append("</totalIssues>\n");
-        xml.append("        <totalCodeLines>").append(totalCodeLines).append("</totalCodeLines>\n");
-        xml.append("        <averageIssueDensity>").append(String.format("%.2f", issueDensity)).append("</averageIssueDensity>\n");
-        xml.append("        <issueDensityUnit>问题/千行</issueDensityUnit>\n");
-        xml.append("    </executiveSummary>\n");
+        xml.raw(SUMMARY_OPEN).number(statistics.getTotalFiles());
+        xml.raw(TOTAL_ISSUES).number(statistics.getTotalIssues());
+        xml.raw(TOTAL_CODE_LINES).number(statistics.getTotalCodeLines());
+        xml.raw(ISSUE_DENSITY).text(String.format("%.2f", statistics.getIssueDensity()));
         
         // 问题类型统计
-        xml.append("    <issueTypeStatistics>\n");
-        Map<String, Long> issueTypeStats = dataList.stream()
-            .filter(data -> data.getIssueType() != null && !data.getIssueType().isEmpty())
-            .collect(Collectors.groupingBy(
-                CodeAnalysis::getIssueType,
-                Collectors.counting()
-            ));
-        
-        for (Map.Entry<String, Long> entry : issueTypeStats.entrySet()) {
-            xml.append("        <issueType>\n");
-            xml.append("            <type>").append(escapeXml(entry.getKey())).append("</type>\n");
-            xml.append("            <fileCount>").append(entry.getValue()).append("</fileCount>\n");
-            xml.append("        </issueType>\n");
+        xml.raw(STATISTICS_OPEN);
+        for (Map.Entry<String, Long> entry : statistics.getIssueTypeStats().entrySet()) {
+            xml.raw(STAT_TYPE).escaped(entry.getKey());
+            xml.raw(STAT_COUNT).number(entry.getValue());
+            xml.raw(STAT_CLOSE);
         }
-        xml.append("    </issueTypeStatistics>\n");
         
         // 详细检测结果
-        xml.append("    <detailedResults>\n");
-        for (CodeAnalysis data : dataList) {
-            if (data != null) {
-                xml.append("        <file>\n");
-                xml.append("            <id>").append(data.getId() != null ? data.getId() : "N/A").append("</id>\n");
-                xml.append("            <fileName>").append(escapeXml(data.getFileName() != null ? data.getFileName() : "N/A")).append("</fileName>\n");
-                xml.append("            <filePath>").append(escapeXml(data.getFilePath() != null ? data.getFilePath() : "N/A")).append("</filePath>\n");
-                xml.append("            <codeLine>").append(data.getCodeLine() != null ? data.getCodeLine() : 0).append("</codeLine>\n");
-                xml.append("            <issueCount>").append(data.getIssueCount() != null ? data.getIssueCount() : 0).append("</issueCount>\n");
-                xml.append("            <issueType>").append(escapeXml(data.getIssueType() != null ? data.getIssueType() : "N/A")).append("</issueType>\n");
-                xml.append("            <createdAt>").append(data.getCreatedAt() != null ? DATE_TIME_FORMATTER.format(data.getCreatedAt()) : "N/A").append("</createdAt>\n");
-                xml.append("            <updatedAt>").append(data.getUpdatedAt() != null ? DATE_TIME_FORMATTER.format(data.getUpdatedAt()) : "N/A").append("</updatedAt>\n");
-                xml.append("        </file>\n");
-            }
-        }
-        xml.append("    </detailedResults>\n");
-        
-        // 建议和改进措施
-        xml.append("    <recommendations>\n");
-        String[] recommendations = {
-            "定期进行代码质量检测，建立代码质量门禁机制",
-            "对发现的问题进行分类处理，优先解决高严重性问题",
-            "建立代码审查流程，提高代码质量意识",
-            "使用自动化工具进行持续集成和持续部署",
-            "定期进行代码重构，减少技术债务"
-        };
-        
-        for (String rec : recommendations) {
-            xml.append("        <recommendation>").append(escapeXml(rec)).append("</recommendation>\n");
-        }
-        xml.append("    </recommendations>\n");
+        xml.raw(DETAILS_OPEN);
+        renderer.writeRows(rows, xml, XmlReportGenerator::writeFile);
         
-        // 报告元数据
-        xml.append("    <metadata>\n");
-        xml.append("        <generator>MultipleFormatReportExport</generator>\n");
-        xml.append("        <format>XML</format>\n");
-        xml.append("        <encoding>UTF-8</encoding>\n");
-        xml.append("        <schemaVersion>1.0</schemaVersion>\n");
-        xml.append("    </metadata>\n");
-        
-        // 根元素结束
-        xml.append("</codeQualityReport>");
-        
-        return xml.toString();
+        // 建议和改进措施、报告元数据
+        xml.raw(TAIL);
+        xml.flush();
     }
     
     /**
-     * 转义XML特殊字符
+     * 写出一条明细
      */
-    private static String escapeXml(String text) {
-        if (text == null) return "";
-        return text.replace("&", "&amp;")
-                  .replace("<", "&lt;")
-                  .replace(">", "&gt;")
-                  .replace("\"", "&quot;")
-                  .replace("'", "&apos;");
+    private static void writeFile(MarkupWriter xml, CodeAnalysis data) throws IOException {
+        xml.raw(FILE_ID);
+        if (data.getId() != null) xml.number(data.getId()); else xml.raw(NOT_AVAILABLE);
+        xml.raw(FILE_NAME);
+        writeText(xml, data.getFileName());
+        xml.raw(FILE_PATH);
+        writeText(xml, data.getFilePath());
+        xml.raw(CODE_LINE).number(data.getCodeLine() != null ? data.getCodeLine() : 0);
+        xml.raw(ISSUE_COUNT).number(data.getIssueCount() != null ? data.getIssueCount() : 0);
+        xml.raw(ISSUE_TYPE);
+        writeText(xml, data.getIssueType());
+        xml.raw(CREATED_AT);
+        if (data.getCreatedAt() != null) xml.dateTime(data.getCreatedAt()); else xml.raw(NOT_AVAILABLE);
+        xml.raw(UPDATED_AT);
+        if (data.getUpdatedAt() != null) xml.dateTime(data.getUpdatedAt()); else xml.raw(NOT_AVAILABLE);
+        xml.raw(FILE_CLOSE);
+    }
+    
+    private static void writeText(MarkupWriter xml, String text) throws IOException {
+        if (text != null) xml.escaped(text); else xml.raw(NOT_AVAILABLE);
     }
-}
\ No newline at end of file
+}
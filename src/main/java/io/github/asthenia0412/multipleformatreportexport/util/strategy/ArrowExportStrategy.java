@@ -0,0 +1,66 @@
+package io.github.asthenia0412.multipleformatreportexport.util.strategy;
+
+import io.github.asthenia0412.multipleformatreportexport.entity.CodeAnalysis;
+import io.github.asthenia0412.multipleformatreportexport.util.ExportStrategy;
+import io.github.asthenia0412.multipleformatreportexport.util.ReportExportUtil;
+import io.github.asthenia0412.multipleformatreportexport.util.generator.ArrowReportGenerator;
+import io.github.asthenia0412.multipleformatreportexport.util.generator.ArrowSettings;
+import io.github.asthenia0412.multipleformatreportexport.util.generator.ReportStatistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Arrow IPC列式导出策略实现（只包含明细），供DuckDB、Spark等分析工具直接读取
+ */
+@Component
+public class ArrowExportStrategy implements ExportStrategy {
+    
+    @Autowired
+    private ArrowSettings settings;
+    
+    @Override
+    public String[] getFormatKeys() {
+        return new String[]{"arrow"};
+    }
+    
+    @Override
+    public String getDescription() {
+        return "Apache Arrow IPC列式格式";
+    }
+    
+    @Override
+    public String[] getFeatures() {
+        return new String[]{"列式存储", "按列压缩", "分析工具直读"};
+    }
+    
+    @Override
+    public CompletableFuture<byte[]> export(ReportStatistics statistics, List<CodeAnalysis> dataList, Executor executor) {
+        return ReportExportUtil.exportArrow(dataList, settings, executor);
+    }
+    
+    @Override
+    public void export(ReportStatistics statistics, Iterable<CodeAnalysis> rows, OutputStream out) throws IOException {
+        ArrowReportGenerator.generateReport(rows, settings, out);
+    }
+    
+    @Override
+    public String getFormatName() {
+        return "Arrow";
+    }
+    
+    @Override
+    public String getMimeType() {
+        return "application/vnd.apache.arrow.file";
+    }
+    
+    @Override
+    public String getFileExtension() {
+        return "arrow";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,92 @@
+package io.github.asthenia0412.multipleformatreportexport.util.strategy;
+
+import io.github.asthenia0412.multipleformatreportexport.entity.CodeAnalysis;
+import io.github.asthenia0412.multipleformatreportexport.util.ExportStrategy;
+import io.github.asthenia0412.multipleformatreportexport.util.ReportExportUtil;
+import io.github.asthenia0412.multipleformatreportexport.util.generator.ChunkedRenderer;
+import io.github.asthenia0412.multipleformatreportexport.util.generator.CsvReportGenerator;
+import io.github.asthenia0412.multipleformatreportexport.util.generator.ReportStatistics;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 分隔符文本导出策略实现（只包含明细）
+ * CSV、TSV等格式只有分隔符和格式信息不同，由DelimitedExportConfig按格式各注册一个Bean
+ */
+public class DelimitedExportStrategy implements ExportStrategy {
+    
+    private final String formatKey;
+    private final String formatName;
+    private final String description;
+    private final String[] features;
+    private final String mimeType;
+    private final char delimiter;
+    
+    /**
+     * 是否写出UTF-8 BOM（用Excel直接打开时需要）
+     */
+    private final boolean bom;
+    
+    private final ChunkedRenderer renderer;
+    
+    /**
+     * @param formatKey 格式名称，同时作为文件扩展名
+     * @param delimiter 字段分隔符
+     * @param renderer 明细渲染器
+     */
+    public DelimitedExportStrategy(String formatKey, String formatName, String description, String[] features,
+                                   String mimeType, char delimiter, boolean bom, ChunkedRenderer renderer) {
+        this.formatKey = formatKey;
+        this.formatName = formatName;
+        this.description = description;
+        this.features = features;
+        this.mimeType = mimeType;
+        this.delimiter = delimiter;
+        this.bom = bom;
+        this.renderer = renderer;
+    }
+    
+    @Override
+    public String[] getFormatKeys() {
+        return new String[]{formatKey};
+    }
+    
+    @Override
+    public String getDescription() {
+        return description;
+    }
+    
+    @Override
+    public String[] getFeatures() {
+        return features.clone();
+    }
+    
+    @Override
+    public CompletableFuture<byte[]> export(ReportStatistics statistics, List<CodeAnalysis> dataList, Executor executor) {
+        return ReportExportUtil.exportDelimited(dataList, delimiter, bom, renderer, executor);
+    }
+    
+    @Override
+    public void export(ReportStatistics statistics, Iterable<CodeAnalysis> rows, OutputStream out) throws IOException {
+        CsvReportGenerator.generateReport(rows, delimiter, bom, renderer, out);
+    }
+    
+    @Override
+    public String getFormatName() {
+        return formatName;
+    }
+    
+    @Override
+    public String getMimeType() {
+        return mimeType;
+    }
+    
+    @Override
+    public String getFileExtension() {
+        return formatKey;
+    }
+}
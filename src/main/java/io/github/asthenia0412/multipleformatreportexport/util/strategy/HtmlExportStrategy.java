@@ -3,18 +3,50 @@ package io.github.asthenia0412.multipleformatreportexport.util.strategy;
 import io.github.asthenia0412.multipleformatreportexport.entity.CodeAnalysis;
 import io.github.asthenia0412.multipleformatreportexport.util.ExportStrategy;
 import io.github.asthenia0412.multipleformatreportexport.util.ReportExportUtil;
+import io.github.asthenia0412.multipleformatreportexport.util.generator.ChunkedRenderer;
+import io.github.asthenia0412.multipleformatreportexport.util.generator.HtmlReportGenerator;
+import io.github.asthenia0412.multipleformatreportexport.util.generator.ReportStatistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * HTML导出策略实现
  */
+@Component
 public class HtmlExportStrategy implements ExportStrategy {
     
+    @Autowired
+    private ChunkedRenderer renderer;
+    
+    @Override
+    public String[] getFormatKeys() {
+        return new String[]{"html"};
+    }
+    
+    @Override
+    public String getDescription() {
+        return "HTML网页格式";
+    }
+    
+    @Override
+    public String[] getFeatures() {
+        return new String[]{"网页浏览", "样式丰富", "交互支持"};
+    }
+    
+    @Override
+    public CompletableFuture<byte[]> export(ReportStatistics statistics, List<CodeAnalysis> dataList, Executor executor) {
+        return ReportExportUtil.exportHtml(statistics, dataList, renderer, executor);
+    }
+    
     @Override
-    public CompletableFuture<byte[]> export(List<CodeAnalysis> dataList) {
-        return ReportExportUtil.exportHtml(dataList);
+    public void export(ReportStatistics statistics, Iterable<CodeAnalysis> rows, OutputStream out) throws IOException {
+        HtmlReportGenerator.generateReport(statistics, rows, renderer, out);
     }
     
     @Override
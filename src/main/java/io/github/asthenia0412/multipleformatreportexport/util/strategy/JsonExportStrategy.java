@@ -0,0 +1,68 @@
+package io.github.asthenia0412.multipleformatreportexport.util.strategy;
+
+import io.github.asthenia0412.multipleformatreportexport.entity.CodeAnalysis;
+import io.github.asthenia0412.multipleformatreportexport.util.ExportStrategy;
+import io.github.asthenia0412.multipleformatreportexport.util.ReportExportUtil;
+import io.github.asthenia0412.multipleformatreportexport.util.generator.JsonReportGenerator;
+import io.github.asthenia0412.multipleformatreportexport.util.generator.ReportStatistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * JSON导出策略实现
+ */
+@Component
+public class JsonExportStrategy implements ExportStrategy {
+    
+    /**
+     * 是否包含执行摘要和问题类型统计，只需要明细时关闭
+     */
+    @Value("${report.export.json.include-summary:true}")
+    private boolean includeSummary;
+    
+    @Override
+    public String[] getFormatKeys() {
+        return new String[]{"json"};
+    }
+    
+    @Override
+    public String getDescription() {
+        return "JSON数据格式";
+    }
+    
+    @Override
+    public String[] getFeatures() {
+        return new String[]{"程序解析", "结构化数据", "摘要可选"};
+    }
+    
+    @Override
+    public CompletableFuture<byte[]> export(ReportStatistics statistics, List<CodeAnalysis> dataList, Executor executor) {
+        return ReportExportUtil.exportJson(statistics, dataList, includeSummary, executor);
+    }
+    
+    @Override
+    public void export(ReportStatistics statistics, Iterable<CodeAnalysis> rows, OutputStream out) throws IOException {
+        JsonReportGenerator.generateReport(statistics, rows, includeSummary, out);
+    }
+    
+    @Override
+    public String getFormatName() {
+        return "JSON";
+    }
+    
+    @Override
+    public String getMimeType() {
+        return "application/json";
+    }
+    
+    @Override
+    public String getFileExtension() {
+        return "json";
+    }
+}
\ No newline at end of file
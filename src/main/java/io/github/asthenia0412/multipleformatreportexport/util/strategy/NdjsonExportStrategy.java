@@ -0,0 +1,61 @@
+package io.github.asthenia0412.multipleformatreportexport.util.strategy;
+
+import io.github.asthenia0412.multipleformatreportexport.entity.CodeAnalysis;
+import io.github.asthenia0412.multipleformatreportexport.util.ExportStrategy;
+import io.github.asthenia0412.multipleformatreportexport.util.ReportExportUtil;
+import io.github.asthenia0412.multipleformatreportexport.util.generator.JsonReportGenerator;
+import io.github.asthenia0412.multipleformatreportexport.util.generator.ReportStatistics;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * NDJSON导出策略实现（每行一条明细）
+ */
+@Component
+public class NdjsonExportStrategy implements ExportStrategy {
+    
+    @Override
+    public String[] getFormatKeys() {
+        return new String[]{"ndjson"};
+    }
+    
+    @Override
+    public String getDescription() {
+        return "NDJSON逐行JSON格式";
+    }
+    
+    @Override
+    public String[] getFeatures() {
+        return new String[]{"逐行解析", "流式处理", "数据管道"};
+    }
+    
+    @Override
+    public CompletableFuture<byte[]> export(ReportStatistics statistics, List<CodeAnalysis> dataList, Executor executor) {
+        return ReportExportUtil.exportNdjson(dataList, executor);
+    }
+    
+    @Override
+    public void export(ReportStatistics statistics, Iterable<CodeAnalysis> rows, OutputStream out) throws IOException {
+        JsonReportGenerator.generateNdjson(rows, out);
+    }
+    
+    @Override
+    public String getFormatName() {
+        return "NDJSON";
+    }
+    
+    @Override
+    public String getMimeType() {
+        return "application/x-ndjson";
+    }
+    
+    @Override
+    public String getFileExtension() {
+        return "ndjson";
+    }
+}
\ No newline at end of file
@@ -1,20 +1,61 @@
 package io.github.asthenia0412.multipleformatreportexport.util.strategy;
 
+import com.itextpdf.text.DocumentException;
 import io.github.asthenia0412.multipleformatreportexport.entity.CodeAnalysis;
 import io.github.asthenia0412.multipleformatreportexport.util.ExportStrategy;
 import io.github.asthenia0412.multipleformatreportexport.util.ReportExportUtil;
+import io.github.asthenia0412.multipleformatreportexport.util.generator.ChunkedRenderer;
+import io.github.asthenia0412.multipleformatreportexport.util.generator.PdfReportGenerator;
+import io.github.asthenia0412.multipleformatreportexport.util.generator.PdfStyleCache;
+import io.github.asthenia0412.multipleformatreportexport.util.generator.ReportStatistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * PDF导出策略实现
  */
+@Component
 public class PdfExportStrategy implements ExportStrategy {
     
+    @Autowired
+    private ChunkedRenderer renderer;
+    
+    @Autowired
+    private PdfStyleCache styles;
+    
+    @Override
+    public String[] getFormatKeys() {
+        return new String[]{"pdf"};
+    }
+    
+    @Override
+    public String getDescription() {
+        return "PDF文档格式";
+    }
+    
+    @Override
+    public String[] getFeatures() {
+        return new String[]{"跨平台", "打印友好", "安全可靠"};
+    }
+    
+    @Override
+    public CompletableFuture<byte[]> export(ReportStatistics statistics, List<CodeAnalysis> dataList, Executor executor) {
+        return ReportExportUtil.exportPdf(statistics, dataList, renderer, styles, executor);
+    }
+    
     @Override
-    public CompletableFuture<byte[]> export(List<CodeAnalysis> dataList) {
-        return ReportExportUtil.exportPdf(dataList);
+    public void export(ReportStatistics statistics, Iterable<CodeAnalysis> rows, OutputStream out) throws IOException {
+        try {
+            PdfReportGenerator.generateReport(statistics, rows, renderer, styles, out);
+        } catch (DocumentException e) {
+            throw new IOException("PDF导出失败", e);
+        }
     }
     
     @Override
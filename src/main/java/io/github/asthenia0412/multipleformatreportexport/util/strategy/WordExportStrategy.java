@@ -3,18 +3,45 @@ package io.github.asthenia0412.multipleformatreportexport.util.strategy;
 import io.github.asthenia0412.multipleformatreportexport.entity.CodeAnalysis;
 import io.github.asthenia0412.multipleformatreportexport.util.ExportStrategy;
 import io.github.asthenia0412.multipleformatreportexport.util.ReportExportUtil;
+import io.github.asthenia0412.multipleformatreportexport.util.generator.DocReportGenerator;
+import io.github.asthenia0412.multipleformatreportexport.util.generator.ReportStatistics;
+import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Word导出策略实现
  */
+@Component
 public class WordExportStrategy implements ExportStrategy {
     
     @Override
-    public CompletableFuture<byte[]> export(List<CodeAnalysis> dataList) {
-        return ReportExportUtil.exportWord(dataList);
+    public String[] getFormatKeys() {
+        return new String[]{"docx"};
+    }
+    
+    @Override
+    public String getDescription() {
+        return "Word文档格式";
+    }
+    
+    @Override
+    public String[] getFeatures() {
+        return new String[]{"文档格式", "样式支持", "图片嵌入"};
+    }
+    
+    @Override
+    public CompletableFuture<byte[]> export(ReportStatistics statistics, List<CodeAnalysis> dataList, Executor executor) {
+        return ReportExportUtil.exportWord(statistics, dataList, executor);
+    }
+    
+    @Override
+    public void export(ReportStatistics statistics, Iterable<CodeAnalysis> rows, OutputStream out) throws IOException {
+        DocReportGenerator.generatorDocReport(statistics, rows, out);
     }
     
     @Override
@@ -3,18 +3,45 @@ package io.github.asthenia0412.multipleformatreportexport.util.strategy;
 import io.github.asthenia0412.multipleformatreportexport.entity.CodeAnalysis;
 import io.github.asthenia0412.multipleformatreportexport.util.ExportStrategy;
 import io.github.asthenia0412.multipleformatreportexport.util.ReportExportUtil;
+import io.github.asthenia0412.multipleformatreportexport.util.generator.ReportStatistics;
+import io.github.asthenia0412.multipleformatreportexport.util.generator.XLSReportGenerator;
+import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
- * XLS导出策略实现
+ * XLS（Excel 97-2003）导出策略实现
  */
+@Component
 public class XlsExportStrategy implements ExportStrategy {
     
     @Override
-    public CompletableFuture<byte[]> export(List<CodeAnalysis> dataList) {
-        return ReportExportUtil.exportXls(dataList);
+    public String[] getFormatKeys() {
+        return new String[]{"xls"};
+    }
+    
+    @Override
+    public String getDescription() {
+        return "Excel电子表格格式";
+    }
+    
+    @Override
+    public String[] getFeatures() {
+        return new String[]{"表格数据", "图表支持", "公式计算"};
+    }
+    
+    @Override
+    public CompletableFuture<byte[]> export(ReportStatistics statistics, List<CodeAnalysis> dataList, Executor executor) {
+        return ReportExportUtil.exportXls(dataList, executor);
+    }
+    
+    @Override
+    public void export(ReportStatistics statistics, Iterable<CodeAnalysis> rows, OutputStream out) throws IOException {
+        XLSReportGenerator.generateLegacyXLSReport(rows, out);
     }
     
     @Override
@@ -24,11 +51,11 @@ public class XlsExportStrategy implements ExportStrategy {
     
     @Override
     public String getMimeType() {
-        return "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+        return "application/vnd.ms-excel";
     }
     
     @Override
     public String getFileExtension() {
-        return "xlsx";
+        return "xls";
     }
 }
\ No newline at end of file
@@ -0,0 +1,66 @@
+package io.github.asthenia0412.multipleformatreportexport.util.strategy;
+
+import io.github.asthenia0412.multipleformatreportexport.entity.CodeAnalysis;
+import io.github.asthenia0412.multipleformatreportexport.util.ExportStrategy;
+import io.github.asthenia0412.multipleformatreportexport.util.ReportExportUtil;
+import io.github.asthenia0412.multipleformatreportexport.util.generator.ReportStatistics;
+import io.github.asthenia0412.multipleformatreportexport.util.generator.XLSReportGenerator;
+import io.github.asthenia0412.multipleformatreportexport.util.generator.XlsxSettings;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * XLSX（Excel 2007+）导出策略实现，基于SXSSF流式写出
+ */
+@Component
+public class XlsxExportStrategy implements ExportStrategy {
+    
+    @Autowired
+    private XlsxSettings settings;
+    
+    @Override
+    public String[] getFormatKeys() {
+        return new String[]{"xlsx"};
+    }
+    
+    @Override
+    public String getDescription() {
+        return "Excel 2007+格式";
+    }
+    
+    @Override
+    public String[] getFeatures() {
+        return new String[]{"现代Excel格式", "大数据支持", "图表增强"};
+    }
+    
+    @Override
+    public CompletableFuture<byte[]> export(ReportStatistics statistics, List<CodeAnalysis> dataList, Executor executor) {
+        return ReportExportUtil.exportXlsx(dataList, settings, executor);
+    }
+    
+    @Override
+    public void export(ReportStatistics statistics, Iterable<CodeAnalysis> rows, OutputStream out) throws IOException {
+        XLSReportGenerator.generateXLSReport(rows, settings, out);
+    }
+    
+    @Override
+    public String getFormatName() {
+        return "Excel";
+    }
+    
+    @Override
+    public String getMimeType() {
+        return "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+    }
+    
+    @Override
+    public String getFileExtension() {
+        return "xlsx";
+    }
+}
\ No newline at end of file
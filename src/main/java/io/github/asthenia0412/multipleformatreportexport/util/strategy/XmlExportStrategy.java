@@ -3,18 +3,50 @@ package io.github.asthenia0412.multipleformatreportexport.util.strategy;
 import io.github.asthenia0412.multipleformatreportexport.entity.CodeAnalysis;
 import io.github.asthenia0412.multipleformatreportexport.util.ExportStrategy;
 import io.github.asthenia0412.multipleformatreportexport.util.ReportExportUtil;
+import io.github.asthenia0412.multipleformatreportexport.util.generator.ChunkedRenderer;
+import io.github.asthenia0412.multipleformatreportexport.util.generator.ReportStatistics;
+import io.github.asthenia0412.multipleformatreportexport.util.generator.XmlReportGenerator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * XML导出策略实现
  */
+@Component
 public class XmlExportStrategy implements ExportStrategy {
     
+    @Autowired
+    private ChunkedRenderer renderer;
+    
+    @Override
+    public String[] getFormatKeys() {
+        return new String[]{"xml"};
+    }
+    
+    @Override
+    public String getDescription() {
+        return "XML数据格式";
+    }
+    
+    @Override
+    public String[] getFeatures() {
+        return new String[]{"数据交换", "结构化", "标准格式"};
+    }
+    
+    @Override
+    public CompletableFuture<byte[]> export(ReportStatistics statistics, List<CodeAnalysis> dataList, Executor executor) {
+        return ReportExportUtil.exportXml(statistics, dataList, renderer, executor);
+    }
+    
     @Override
-    public CompletableFuture<byte[]> export(List<CodeAnalysis> dataList) {
-        return ReportExportUtil.exportXml(dataList);
+    public void export(ReportStatistics statistics, Iterable<CodeAnalysis> rows, OutputStream out) throws IOException {
+        XmlReportGenerator.generateReport(statistics, rows, renderer, out);
     }
     
     @Override
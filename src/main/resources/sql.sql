@@ -0,0 +1,32 @@
+-- 格式信息表
+CREATE TABLE IF NOT EXISTS format_info (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    format_name VARCHAR(50) NOT NULL UNIQUE,
+    description TEXT,
+    mime_type VARCHAR(100),
+    file_extension VARCHAR(20),
+    supported BOOLEAN DEFAULT TRUE,
+    features JSON,
+    created_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_time TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+-- 代码分析表
+CREATE TABLE IF NOT EXISTS code_analysis (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    file_name VARCHAR(255) NOT NULL,
+    file_path VARCHAR(512) NOT NULL,
+    code_line INT NOT NULL,
+    issue_count INT NOT NULL,
+    issue_type VARCHAR(100),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    -- 游标（keyset）分页与按问题类型导出使用的复合索引
+    INDEX idx_code_analysis_issue_type_id (issue_type, id),
+    -- 报告缓存的数据版本查询（max(updated_at)、count(*)）只扫描索引
+    INDEX idx_code_analysis_issue_type_updated_at (issue_type, updated_at)
+);
+
+-- 已有库升级时单独执行：
+-- ALTER TABLE code_analysis ADD INDEX idx_code_analysis_issue_type_id (issue_type, id);
+-- ALTER TABLE code_analysis ADD INDEX idx_code_analysis_issue_type_updated_at (issue_type, updated_at);
@@ -0,0 +1,63 @@
+package io.github.asthenia0412.multipleformatreportexport.util;
+
+import io.github.asthenia0412.multipleformatreportexport.exception.InvalidExportRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KeysetPageTokenTest {
+
+    @Test
+    void roundTrip() {
+        assertEquals(42L, KeysetPageToken.decode(KeysetPageToken.encode("bug", 42L), "bug"));
+        assertEquals(Long.MAX_VALUE, KeysetPageToken.decode(KeysetPageToken.encode("bug", Long.MAX_VALUE), "bug"));
+    }
+
+    @Test
+    void roundTripWithoutIssueType() {
+        assertEquals(7L, KeysetPageToken.decode(KeysetPageToken.encode(null, 7L), null));
+        assertEquals(7L, KeysetPageToken.decode(KeysetPageToken.encode("", 7L), null));
+    }
+
+    @Test
+    void roundTripIssueTypeContainingSeparator() {
+        assertEquals(3L, KeysetPageToken.decode(KeysetPageToken.encode("a:b", 3L), "a:b"));
+    }
+
+    @Test
+    void blankTokenStartsFromFirstPage() {
+        assertNull(KeysetPageToken.decode(null, "bug"));
+        assertNull(KeysetPageToken.decode("  ", "bug"));
+    }
+
+    @Test
+    void rejectsMalformedBase64() {
+        assertThrows(InvalidExportRequestException.class, () -> KeysetPageToken.decode("%%%", "bug"));
+    }
+
+    @Test
+    void rejectsTokenWithoutSeparator() {
+        assertThrows(InvalidExportRequestException.class, () -> KeysetPageToken.decode(encodeRaw("bug42"), "bug"));
+    }
+
+    @Test
+    void rejectsNonNumericId() {
+        assertThrows(InvalidExportRequestException.class, () -> KeysetPageToken.decode(encodeRaw("bug:abc"), "bug"));
+    }
+
+    @Test
+    void rejectsMismatchedIssueType() {
+        String token = KeysetPageToken.encode("bug", 42L);
+        assertThrows(InvalidExportRequestException.class, () -> KeysetPageToken.decode(token, "vulnerability"));
+        assertThrows(InvalidExportRequestException.class, () -> KeysetPageToken.decode(token, null));
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.asthenia0412.multipleformatreportexport.util;
+
+import io.github.asthenia0412.multipleformatreportexport.config.ExportCompressionProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResponseCompressorTest {
+
+    @Test
+    void acceptsGzipListedWithoutQuality() {
+        assertTrue(ResponseCompressor.acceptsGzip("gzip"));
+        assertTrue(ResponseCompressor.acceptsGzip("deflate, GZIP, br"));
+        assertTrue(ResponseCompressor.acceptsGzip("x-gzip"));
+    }
+
+    @Test
+    void rejectsMissingOrEmptyHeader() {
+        assertFalse(ResponseCompressor.acceptsGzip(null));
+        assertFalse(ResponseCompressor.acceptsGzip(""));
+        assertFalse(ResponseCompressor.acceptsGzip("identity"));
+        assertFalse(ResponseCompressor.acceptsGzip("br, deflate"));
+    }
+
+    @Test
+    void honoursQualityValues() {
+        assertFalse(ResponseCompressor.acceptsGzip("gzip;q=0"));
+        assertFalse(ResponseCompressor.acceptsGzip("gzip; q=0.0, identity"));
+        assertTrue(ResponseCompressor.acceptsGzip("gzip;q=0.5"));
+        assertFalse(ResponseCompressor.acceptsGzip("gzip;q=abc"));
+    }
+
+    @Test
+    void wildcardAppliesOnlyWhenGzipIsNotListed() {
+        assertTrue(ResponseCompressor.acceptsGzip("*"));
+        assertTrue(ResponseCompressor.acceptsGzip("br, *;q=0.1"));
+        assertFalse(ResponseCompressor.acceptsGzip("*;q=0"));
+        assertFalse(ResponseCompressor.acceptsGzip("gzip;q=0, *"));
+        assertTrue(ResponseCompressor.acceptsGzip("gzip, *;q=0"));
+    }
+
+    @Test
+    void negotiatesPerFormatLevel() {
+        ExportCompressionProperties properties = new ExportCompressionProperties();
+        properties.setLevel(5);
+        properties.setLevels(Collections.singletonMap("HTML", 9));
+        properties.setSkipFormats(Collections.singleton(" PDF "));
+        ResponseCompressor compressor = new ResponseCompressor(properties);
+
+        assertEquals(9, compressor.negotiate("gzip", "html"));
+        assertEquals(9, compressor.negotiate("gzip", " Html "));
+        assertEquals(5, compressor.negotiate("gzip", "xml"));
+        assertEquals(0, compressor.negotiate("gzip", "pdf"));
+        assertEquals(0, compressor.negotiate("gzip;q=0", "xml"));
+        assertEquals(0, compressor.negotiate(null, "xml"));
+    }
+
+    @Test
+    void disabledCompressionNeverNegotiatesGzip() {
+        ExportCompressionProperties properties = new ExportCompressionProperties();
+        properties.setEnabled(false);
+        assertEquals(0, new ResponseCompressor(properties).negotiate("gzip", "xml"));
+    }
+
+    @Test
+    void rejectsLevelsOutsideGzipRange() {
+        ExportCompressionProperties properties = new ExportCompressionProperties();
+        assertThrows(IllegalArgumentException.class, () -> properties.setLevel(0));
+        assertThrows(IllegalArgumentException.class, () -> properties.setLevel(10));
+        assertThrows(IllegalArgumentException.class, () -> properties.setLevels(Collections.singletonMap("xml", -1)));
+    }
+}
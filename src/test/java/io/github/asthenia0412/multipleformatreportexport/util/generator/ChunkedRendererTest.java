@@ -0,0 +1,128 @@
+package io.github.asthenia0412.multipleformatreportexport.util.generator;
+
+import io.github.asthenia0412.multipleformatreportexport.entity.CodeAnalysis;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ChunkedRendererTest {
+
+    private static final int CHUNK_SIZE = 7;
+
+    private static ChunkedRenderer parallel;
+
+    @BeforeAll
+    static void createRenderer() {
+        parallel = new ChunkedRenderer(new ForkJoinPool(4), CHUNK_SIZE, CHUNK_SIZE, false);
+    }
+
+    @AfterAll
+    static void shutdownRenderer() {
+        parallel.shutdown();
+    }
+
+    @Test
+    void writeRowsMatchesSequentialOrder() throws IOException {
+        // 行数不是块大小的整数倍，并且包含null行
+        List<CodeAnalysis> rows = rows(1000);
+        assertArrayEquals(writeRows(ChunkedRenderer.SEQUENTIAL, rows), writeRows(parallel, rows));
+    }
+
+    @Test
+    void writeRowsBelowOneChunkRendersInline() throws IOException {
+        List<CodeAnalysis> rows = rows(CHUNK_SIZE - 1);
+        assertArrayEquals(writeRows(ChunkedRenderer.SEQUENTIAL, rows), writeRows(parallel, rows));
+    }
+
+    @Test
+    void csvMatchesSequential() throws IOException {
+        List<CodeAnalysis> rows = rows(1000);
+        assertArrayEquals(
+                CsvReportGenerator.generateReport(rows, CsvReportGenerator.CSV_DELIMITER, true, ChunkedRenderer.SEQUENTIAL),
+                CsvReportGenerator.generateReport(rows, CsvReportGenerator.CSV_DELIMITER, true, parallel));
+    }
+
+    @Test
+    void htmlMatchesSequential() throws IOException {
+        List<CodeAnalysis> rows = rows(1000);
+        ReportStatistics statistics = ReportStatistics.of(rows);
+        ByteArrayOutputStream sequential = new ByteArrayOutputStream();
+        ByteArrayOutputStream chunked = new ByteArrayOutputStream();
+        HtmlReportGenerator.generateReport(statistics, rows, ChunkedRenderer.SEQUENTIAL, sequential);
+        HtmlReportGenerator.generateReport(statistics, rows, parallel, chunked);
+        assertEquals(withoutGeneratedTime(sequential), withoutGeneratedTime(chunked));
+    }
+
+    @Test
+    void xmlMatchesSequential() throws IOException {
+        List<CodeAnalysis> rows = rows(1000);
+        ReportStatistics statistics = ReportStatistics.of(rows);
+        ByteArrayOutputStream sequential = new ByteArrayOutputStream();
+        ByteArrayOutputStream chunked = new ByteArrayOutputStream();
+        XmlReportGenerator.generateReport(statistics, rows, ChunkedRenderer.SEQUENTIAL, sequential);
+        XmlReportGenerator.generateReport(statistics, rows, parallel, chunked);
+        assertEquals(withoutGeneratedTime(sequential), withoutGeneratedTime(chunked));
+    }
+
+    @Test
+    void rowWriterFailureIsRethrown() {
+        List<CodeAnalysis> rows = rows(100);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IOException e = assertThrows(IOException.class, () -> parallel.writeRows(rows, new MarkupWriter(out), (writer, data) -> {
+            if (data.getId() == 50L) {
+                throw new IOException("row 50");
+            }
+            writer.number(data.getId());
+        }));
+        assertEquals("row 50", e.getMessage());
+    }
+
+    private static byte[] writeRows(ChunkedRenderer renderer, List<CodeAnalysis> rows) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MarkupWriter writer = new MarkupWriter(out);
+        renderer.writeRows(rows, writer, (markup, data) -> markup.number(data.getId()).text(",").escaped(data.getFileName()).text("\n"));
+        writer.flush();
+        return out.toByteArray();
+    }
+
+    /**
+     * 去掉报告头部的生成时间，两次生成可能跨秒
+     */
+    private static String withoutGeneratedTime(ByteArrayOutputStream report) {
+        return new String(report.toByteArray(), StandardCharsets.UTF_8)
+                .replaceFirst("\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}", "");
+    }
+
+    private static List<CodeAnalysis> rows(int count) {
+        List<CodeAnalysis> rows = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            if (i % 97 == 0) {
+                rows.add(null);
+                continue;
+            }
+            CodeAnalysis data = new CodeAnalysis();
+            data.setId((long) i);
+            data.setFileName("File" + i + (i % 3 == 0 ? "<&\"中文😀>" : "") + ".java");
+            data.setFilePath("src/main/java/p" + i % 10);
+            data.setCodeLine(i * 3);
+            data.setIssueCount(i % 5);
+            data.setIssueType(i % 2 == 0 ? "bug" : "code,smell");
+            data.setCreatedAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(i));
+            data.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(i));
+            rows.add(data);
+        }
+        return rows;
+    }
+}
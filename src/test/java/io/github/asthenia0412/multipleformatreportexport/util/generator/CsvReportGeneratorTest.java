@@ -0,0 +1,87 @@
+package io.github.asthenia0412.multipleformatreportexport.util.generator;
+
+import io.github.asthenia0412.multipleformatreportexport.entity.CodeAnalysis;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class CsvReportGeneratorTest {
+
+    private static final String CSV_HEADER = "ID,文件名,文件路径,代码行数,问题数量,问题类型,创建时间,更新时间\r\n";
+    private static final String TSV_HEADER = "ID\t文件名\t文件路径\t代码行数\t问题数量\t问题类型\t创建时间\t更新时间\r\n";
+    private static final LocalDateTime TIME = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+
+    @Test
+    void plainFieldsAreNotQuoted() throws IOException {
+        assertEquals(CSV_HEADER + "1,A.java,src/A.java,10,2,bug,2024-01-02 03:04:05,2024-01-02 03:04:05\r\n",
+                csv(row("A.java", "src/A.java", "bug")));
+    }
+
+    @Test
+    void quotesFieldsContainingDelimiterQuoteOrLineBreak() throws IOException {
+        assertEquals(CSV_HEADER
+                        + "1,\"a,b\",\"say \"\"hi\"\"\",10,2,\"line1\r\nline2\",2024-01-02 03:04:05,2024-01-02 03:04:05\r\n",
+                csv(row("a,b", "say \"hi\"", "line1\r\nline2")));
+        assertEquals(CSV_HEADER + "1,\"cr\r\",\"lf\n\",10,2,\"\"\"\",2024-01-02 03:04:05,2024-01-02 03:04:05\r\n",
+                csv(row("cr\r", "lf\n", "\"")));
+    }
+
+    @Test
+    void tsvQuotesTabsButNotCommas() throws IOException {
+        assertEquals(TSV_HEADER + "1\ta,b\t\"a\tb\"\t10\t2\tbug\t2024-01-02 03:04:05\t2024-01-02 03:04:05\r\n",
+                tsv(row("a,b", "a\tb", "bug")));
+    }
+
+    @Test
+    void nullFieldsAreEmpty() throws IOException {
+        CodeAnalysis data = new CodeAnalysis();
+        assertEquals(CSV_HEADER + ",,,,,,,\r\n", csv(data));
+    }
+
+    @Test
+    void keepsSurrogatePairsAndMarkupCharacters() throws IOException {
+        assertEquals(CSV_HEADER + "1,😀.java,<a & b>,10,2,中文,2024-01-02 03:04:05,2024-01-02 03:04:05\r\n",
+                csv(row("😀.java", "<a & b>", "中文")));
+    }
+
+    @Test
+    void writesBomOnlyWhenRequested() throws IOException {
+        byte[] withBom = CsvReportGenerator.generateReport(Collections.emptyList(), CsvReportGenerator.CSV_DELIMITER,
+                true, ChunkedRenderer.SEQUENTIAL);
+        assertEquals("\uFEFF" + CSV_HEADER, new String(withBom, StandardCharsets.UTF_8));
+        assertFalse(csv().startsWith("\uFEFF"));
+    }
+
+    private static String csv(CodeAnalysis... rows) throws IOException {
+        return generate(CsvReportGenerator.CSV_DELIMITER, rows);
+    }
+
+    private static String tsv(CodeAnalysis... rows) throws IOException {
+        return generate(CsvReportGenerator.TSV_DELIMITER, rows);
+    }
+
+    private static String generate(char delimiter, CodeAnalysis... rows) throws IOException {
+        byte[] report = CsvReportGenerator.generateReport(Arrays.asList(rows), delimiter, false, ChunkedRenderer.SEQUENTIAL);
+        return new String(report, StandardCharsets.UTF_8);
+    }
+
+    private static CodeAnalysis row(String fileName, String filePath, String issueType) {
+        CodeAnalysis data = new CodeAnalysis();
+        data.setId(1L);
+        data.setFileName(fileName);
+        data.setFilePath(filePath);
+        data.setCodeLine(10);
+        data.setIssueCount(2);
+        data.setIssueType(issueType);
+        data.setCreatedAt(TIME);
+        data.setUpdatedAt(TIME);
+        return data;
+    }
+}
@@ -0,0 +1,88 @@
+package io.github.asthenia0412.multipleformatreportexport.util.generator;
+
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MarkupWriterTest {
+
+    @Test
+    void escapesMarkupCharacters() throws IOException {
+        assertEquals("a &amp; b &lt;c&gt; &quot;d&quot; &#39;e&#39;", escaped("a & b <c> \"d\" 'e'"));
+    }
+
+    @Test
+    void keepsTabAndLineBreaksAndDropsOtherControlCharacters() throws IOException {
+        assertEquals("a\tb\r\nc", escaped("a\tb\r\n\u0000\u0001\u001Fc"));
+    }
+
+    @Test
+    void textIsNotEscaped() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MarkupWriter writer = new MarkupWriter(out);
+        writer.text("<a & b>").flush();
+        assertEquals("<a & b>", out.toString("UTF-8"));
+    }
+
+    @Test
+    void encodesMultiByteAndSurrogatePairsLikeJdk() throws IOException {
+        String text = "中文 é 😀 𝄞";
+        assertArrayEquals(text.getBytes(StandardCharsets.UTF_8), escapedBytes(text));
+    }
+
+    @Test
+    void replacesUnpairedSurrogates() throws IOException {
+        assertEquals("a?b?", escaped("a\uD83Db\uDE00"));
+    }
+
+    @Test
+    void encodesAcrossBufferBoundary() throws IOException {
+        StringBuilder text = new StringBuilder();
+        while (text.length() < 40_000) {
+            text.append("x中😀");
+        }
+        assertArrayEquals(text.toString().getBytes(StandardCharsets.UTF_8), escapedBytes(text.toString()));
+    }
+
+    @Test
+    void writesNumbersAndDates() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MarkupWriter writer = new MarkupWriter(out);
+        writer.number(0).text(",").number(-42).text(",").number(Long.MIN_VALUE).text(",")
+                .dateTime(LocalDateTime.of(2024, 3, 5, 7, 8, 9)).flush();
+        assertEquals("0,-42," + Long.MIN_VALUE + ",2024-03-05 07:08:09", out.toString("UTF-8"));
+    }
+
+    @Test
+    void escapedTextRoundTripsThroughXmlParser() throws Exception {
+        String text = "<file name=\"a&b\">'x'</file>\r\n中文😀";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MarkupWriter writer = new MarkupWriter(out);
+        writer.text("<?xml version=\"1.0\" encoding=\"UTF-8\"?><root>").escaped(text + "\u0002").text("</root>").flush();
+
+        Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                .parse(new ByteArrayInputStream(out.toByteArray()));
+        // XML解析器把CRLF规范化为LF
+        assertEquals(text.replace("\r\n", "\n"), document.getDocumentElement().getTextContent());
+    }
+
+    private static String escaped(String text) throws IOException {
+        return new String(escapedBytes(text), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] escapedBytes(String text) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MarkupWriter writer = new MarkupWriter(out);
+        writer.escaped(text).flush();
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.asthenia0412.multipleformatreportexport.util.generator;
+
+import io.github.asthenia0412.multipleformatreportexport.entity.CodeAnalysis;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class XLSReportGeneratorTest {
+
+    // 标题、生成时间、表头各占一行
+    private static final int FIRST_DATA_ROW = 3;
+    private static final int XLS_ROWS_PER_SHEET = SpreadsheetVersion.EXCEL97.getMaxRows() - FIRST_DATA_ROW;
+
+    @Test
+    void legacyReportFitsOneSheetUpToMaxRows() throws IOException {
+        try (Workbook workbook = new HSSFWorkbook(new ByteArrayInputStream(
+                XLSReportGenerator.generateLegacyXLSReport(rows(XLS_ROWS_PER_SHEET))))) {
+            assertEquals(1, workbook.getNumberOfSheets());
+            Sheet sheet = workbook.getSheetAt(0);
+            assertEquals(SpreadsheetVersion.EXCEL97.getLastRowIndex(), sheet.getLastRowNum());
+            assertEquals(XLS_ROWS_PER_SHEET, (long) sheet.getRow(sheet.getLastRowNum()).getCell(0).getNumericCellValue());
+        }
+    }
+
+    @Test
+    void legacyReportRollsOverToNewSheetAtMaxRows() throws IOException {
+        try (Workbook workbook = new HSSFWorkbook(new ByteArrayInputStream(
+                XLSReportGenerator.generateLegacyXLSReport(rows(XLS_ROWS_PER_SHEET + 10))))) {
+            assertEquals(2, workbook.getNumberOfSheets());
+            assertEquals("代码质量检测", workbook.getSheetName(0));
+            assertEquals("代码质量检测 (2)", workbook.getSheetName(1));
+
+            Sheet second = workbook.getSheetAt(1);
+            // 新工作表同样带表头，数据从第4行继续
+            assertEquals("ID", second.getRow(FIRST_DATA_ROW - 1).getCell(0).getStringCellValue());
+            assertEquals(FIRST_DATA_ROW + 9, second.getLastRowNum());
+            assertEquals(XLS_ROWS_PER_SHEET + 1, (long) second.getRow(FIRST_DATA_ROW).getCell(0).getNumericCellValue());
+            assertEquals(XLS_ROWS_PER_SHEET + 10, (long) second.getRow(second.getLastRowNum()).getCell(0).getNumericCellValue());
+        }
+    }
+
+    @Test
+    void xlsxReportSkipsNullRows() throws IOException {
+        List<CodeAnalysis> rows = rows(3);
+        rows.add(1, null);
+        try (Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(
+                XLSReportGenerator.generateXLSReport(rows, XlsxSettings.DEFAULT)))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertEquals(FIRST_DATA_ROW + 2, sheet.getLastRowNum());
+            assertEquals(2, (long) sheet.getRow(FIRST_DATA_ROW + 1).getCell(0).getNumericCellValue());
+        }
+    }
+
+    private static List<CodeAnalysis> rows(int count) {
+        List<CodeAnalysis> rows = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            CodeAnalysis data = new CodeAnalysis();
+            data.setId((long) i);
+            data.setFileName("File" + i + ".java");
+            data.setCodeLine(i);
+            data.setIssueCount(i % 5);
+            data.setIssueType("bug");
+            rows.add(data);
+        }
+        return rows;
+    }
+}